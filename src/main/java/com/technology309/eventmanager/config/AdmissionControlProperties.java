@@ -0,0 +1,48 @@
+package com.technology309.eventmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "eventmanager.admission")
+public class AdmissionControlProperties {
+    private boolean enabled = true;
+
+    /** Header identifying an integration partner. */
+    private String clientHeader = "X-API-Key";
+
+    /**
+     * API keys of known partners; each gets its own buckets. Requests without a listed
+     * key are keyed by IP, so made-up keys cannot mint fresh buckets.
+     */
+    private Set<String> partnerKeys = new HashSet<>();
+    private long maxClients = 100_000;
+    private Duration clientIdleTimeout = Duration.ofMinutes(10);
+
+    private Limit read = new Limit(100, 50);
+    private Limit search = new Limit(20, 10);
+    private Limit write = new Limit(20, 5);
+
+    /** In-flight requests admitted while the service is healthy; halved while overloaded. */
+    private int maxConcurrentRequests = 200;
+    private Duration latencyThreshold = Duration.ofMillis(500);
+    private int poolWaitThreshold = 5;
+
+    @Data
+    public static class Limit {
+        private int capacity;
+        private double refillPerSecond;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.technology309.eventmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "eventmanager.archive")
+public class ArchiveProperties {
+    private boolean enabled = true;
+
+    /** How long after its end date an event stays in the hot {@code events} table. */
+    private Duration gracePeriod = Duration.ofDays(1);
+
+    /** Events moved per transaction. */
+    private int batchSize = 500;
+}
@@ -0,0 +1,31 @@
+package com.technology309.eventmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "eventmanager.cache.warmup")
+public class CacheWarmupProperties {
+    private boolean enabled = true;
+
+    /** Leading pages of the default listing (newest start date first) to preload. */
+    private int pages = 5;
+    private int pageSize = 10;
+
+    /** Most frequently requested event ids to preload from the hot-key snapshot. */
+    private int hotIds = 200;
+
+    /** Warm-up threads; keep well below the connection pool size. */
+    private int parallelism = 4;
+    private Duration timeout = Duration.ofSeconds(60);
+
+    /**
+     * File the running instance writes its hot event ids to and new instances read at
+     * startup. Must live on storage that outlives the container (a named volume or a
+     * shared mount) for new instances to see it; blank disables the snapshot.
+     */
+    private String snapshotFile = "";
+    private int maxTrackedIds = 10_000;
+}
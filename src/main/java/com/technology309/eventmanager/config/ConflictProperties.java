@@ -0,0 +1,14 @@
+package com.technology309.eventmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "eventmanager.conflicts")
+public class ConflictProperties {
+    /**
+     * Reject creates and updates that overlap another event at the same location,
+     * checked against the database rather than the in-memory schedule index.
+     */
+    private boolean enforce = false;
+}
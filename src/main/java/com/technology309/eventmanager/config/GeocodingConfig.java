@@ -0,0 +1,28 @@
+package com.technology309.eventmanager.config;
+
+import com.technology309.eventmanager.service.Geocoder;
+import com.technology309.eventmanager.service.StubGeocoder;
+import com.technology309.eventmanager.service.WeatherGeocoder;
+import com.technology309.eventmanager.service.WeatherService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class GeocodingConfig {
+
+    /**
+     * Picks the provider when the bean is created rather than through bean conditions:
+     * the AOT build evaluates conditions once at build time, so a conditional choice
+     * could not be changed on the built image.
+     */
+    @Bean
+    public Geocoder geocoder(GeocodingProperties properties, WeatherService weatherService) {
+        log.info("Geocoding event locations with the {} provider", properties.getProvider().name().toLowerCase());
+        return switch (properties.getProvider()) {
+            case WEATHER -> new WeatherGeocoder(weatherService);
+            case STUB -> new StubGeocoder();
+        };
+    }
+}
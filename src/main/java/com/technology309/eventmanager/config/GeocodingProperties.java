@@ -0,0 +1,13 @@
+package com.technology309.eventmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "eventmanager.geocoding")
+public class GeocodingProperties {
+    public enum Provider { WEATHER, STUB }
+
+    /** {@code weather} reuses the weather provider's coordinates; {@code stub} works offline. */
+    private Provider provider = Provider.WEATHER;
+}
@@ -0,0 +1,14 @@
+package com.technology309.eventmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "eventmanager.weather")
+public class WeatherClientProperties {
+    /** Creates and updates wait on the weather provider, so keep both timeouts short. */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(3);
+}
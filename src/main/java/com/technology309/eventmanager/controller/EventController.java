@@ -1,16 +1,21 @@
 package com.technology309.eventmanager.controller;
 
+import com.technology309.eventmanager.dto.EventSlot;
+import com.technology309.eventmanager.dto.PageResponse;
+import com.technology309.eventmanager.model.ArchivedEvent;
 import com.technology309.eventmanager.model.Event;
+import com.technology309.eventmanager.service.EventArchiveService;
 import com.technology309.eventmanager.service.EventService;
+import com.technology309.eventmanager.service.HotKeyTracker;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/events")
@@ -18,9 +23,11 @@ import java.time.LocalDateTime;
 @CrossOrigin(origins = "*")
 public class EventController {
     private final EventService eventService;
+    private final HotKeyTracker hotKeyTracker;
+    private final EventArchiveService eventArchiveService;
 
     @GetMapping
-    public ResponseEntity<Page<Event>> getAllEvents(
+    public ResponseEntity<PageResponse<Event>> getAllEvents(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "startDate") String sortBy,
@@ -29,11 +36,11 @@ public class EventController {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction.toUpperCase());
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
-        return ResponseEntity.ok(eventService.getAllEvents(pageRequest));
+        return ResponseEntity.ok(PageResponse.from(eventService.getAllEvents(pageRequest)));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Page<Event>> searchEvents(
+    public ResponseEntity<PageResponse<Event>> searchEvents(
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) LocalDateTime startDate,
@@ -44,19 +51,86 @@ public class EventController {
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "startDate"));
 
         if (title != null && !title.isEmpty()) {
-            return ResponseEntity.ok(eventService.searchEventsByTitle(title, pageRequest));
+            return ResponseEntity.ok(PageResponse.from(eventService.searchEventsByTitle(title, pageRequest)));
         } else if (location != null && !location.isEmpty()) {
-            return ResponseEntity.ok(eventService.searchEventsByLocation(location, pageRequest));
+            return ResponseEntity.ok(PageResponse.from(eventService.searchEventsByLocation(location, pageRequest)));
         } else if (startDate != null && endDate != null) {
-            return ResponseEntity.ok(eventService.searchEventsByDateRange(startDate, endDate, pageRequest));
+            return ResponseEntity.ok(PageResponse.from(eventService.searchEventsByDateRange(startDate, endDate, pageRequest)));
         }
 
-        return ResponseEntity.ok(eventService.getAllEvents(pageRequest));
+        return ResponseEntity.ok(PageResponse.from(eventService.getAllEvents(pageRequest)));
+    }
+
+    @GetMapping("/now")
+    public ResponseEntity<List<Event>> getEventsHappeningNow(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventService.getEventsHappeningNow(limit));
+    }
+
+    @GetMapping("/upcoming")
+    public ResponseEntity<List<Event>> getUpcomingEvents(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventService.getUpcomingEvents(limit));
+    }
+
+    @GetMapping("/conflicts")
+    public ResponseEntity<List<EventSlot>> getConflicts(
+            @RequestParam String location,
+            @RequestParam LocalDateTime startDate,
+            @RequestParam LocalDateTime endDate,
+            @RequestParam(required = false) Long excludeId) {
+        return ResponseEntity.ok(eventService.findConflicts(location, startDate, endDate, excludeId));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<Event>> getEventsNearby(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(eventService.getEventsNearby(latitude, longitude, radiusKm, limit));
+    }
+
+    @GetMapping("/archive")
+    public ResponseEntity<PageResponse<ArchivedEvent>> getArchivedEvents(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "startDate"));
+        return ResponseEntity.ok(PageResponse.from(eventArchiveService.getArchivedEvents(pageRequest)));
+    }
+
+    @GetMapping("/archive/search")
+    public ResponseEntity<PageResponse<ArchivedEvent>> searchArchivedEvents(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) LocalDateTime startDate,
+            @RequestParam(required = false) LocalDateTime endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "startDate"));
+
+        if (title != null && !title.isEmpty()) {
+            return ResponseEntity.ok(PageResponse.from(eventArchiveService.searchArchivedEventsByTitle(title, pageRequest)));
+        } else if (location != null && !location.isEmpty()) {
+            return ResponseEntity.ok(PageResponse.from(eventArchiveService.searchArchivedEventsByLocation(location, pageRequest)));
+        } else if (startDate != null && endDate != null) {
+            return ResponseEntity.ok(PageResponse.from(eventArchiveService.searchArchivedEventsByDateRange(startDate, endDate, pageRequest)));
+        }
+
+        return ResponseEntity.ok(PageResponse.from(eventArchiveService.getArchivedEvents(pageRequest)));
+    }
+
+    @GetMapping("/archive/{id}")
+    public ResponseEntity<ArchivedEvent> getArchivedEventById(@PathVariable Long id) {
+        return ResponseEntity.ok(eventArchiveService.getArchivedEventById(id));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Event> getEventById(@PathVariable Long id) {
-        return ResponseEntity.ok(eventService.getEventById(id));
+        eventService.requireIndexed(id);
+        Event event = eventService.getEventById(id);
+        hotKeyTracker.recordAccess(id);
+        return ResponseEntity.ok(event);
     }
 
     @PostMapping
@@ -66,11 +140,13 @@ public class EventController {
 
     @PutMapping("/{id}")
     public ResponseEntity<Event> updateEvent(@PathVariable Long id, @Valid @RequestBody Event event) {
+        eventService.requireIndexed(id);
         return ResponseEntity.ok(eventService.updateEvent(id, event));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteEvent(@PathVariable Long id) {
+        eventService.requireIndexed(id);
         eventService.deleteEvent(id);
         return ResponseEntity.noContent().build();
     }
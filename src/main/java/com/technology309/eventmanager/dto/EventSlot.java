@@ -0,0 +1,10 @@
+package com.technology309.eventmanager.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The part of an event that occupies a location: which event, where, and the
+ * half-open window {@code [startDate, endDate)}.
+ */
+public record EventSlot(Long id, String title, String location, LocalDateTime startDate, LocalDateTime endDate) {
+}
@@ -0,0 +1,4 @@
+package com.technology309.eventmanager.dto;
+
+public record GeoPoint(double latitude, double longitude) {
+}
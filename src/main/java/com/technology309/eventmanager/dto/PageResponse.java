@@ -0,0 +1,28 @@
+package com.technology309.eventmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Compact, stable JSON envelope for paginated results. Replaces the serialized
+ * {@code PageImpl} internals (pageable, sort, flags) with the fields clients use.
+ */
+@JsonPropertyOrder({"content", "number", "size", "totalElements", "totalPages"})
+public record PageResponse<T>(
+        List<T> content,
+        int number,
+        int size,
+        long totalElements,
+        int totalPages) {
+
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return new PageResponse<>(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages());
+    }
+}
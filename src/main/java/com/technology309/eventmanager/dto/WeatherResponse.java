@@ -6,10 +6,17 @@ import lombok.Data;
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class WeatherResponse {
+    private Coord coord;
     private Main main;
     private Weather[] weather;
     private String name;
 
+    @Data
+    public static class Coord {
+        private double lat;
+        private double lon;
+    }
+
     @Data
     public static class Main {
         private double temp;
@@ -0,0 +1,23 @@
+package com.technology309.eventmanager.exception;
+
+import com.technology309.eventmanager.dto.EventSlot;
+
+import java.util.List;
+
+/**
+ * Thrown when conflict enforcement is on and an event would overlap other events
+ * at the same location.
+ */
+public class EventConflictException extends RuntimeException {
+    private final List<EventSlot> conflicts;
+
+    public EventConflictException(List<EventSlot> conflicts) {
+        super("Event overlaps " + conflicts.size() + " existing event(s) at the same location: "
+                + conflicts.stream().map(EventSlot::id).toList());
+        this.conflicts = conflicts;
+    }
+
+    public List<EventSlot> getConflicts() {
+        return conflicts;
+    }
+}
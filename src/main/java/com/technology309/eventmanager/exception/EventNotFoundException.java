@@ -0,0 +1,29 @@
+package com.technology309.eventmanager.exception;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Not-found signal for event lookups. Scrapers hit this path constantly, so the
+ * exception skips stack trace capture and only formats its message when read.
+ */
+public class EventNotFoundException extends EntityNotFoundException {
+    private final Long id;
+
+    public EventNotFoundException(Long id) {
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Event not found with id: " + id;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,141 @@
+package com.technology309.eventmanager.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.technology309.eventmanager.config.AdmissionControlProperties;
+import com.technology309.eventmanager.exception.ErrorResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client token-bucket rate limiting and concurrency-based load shedding for
+ * {@code /api/**}. Runs ahead of the Spring Security filter chain so rejected
+ * requests cost as little as possible.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    enum RouteClass { READ, SEARCH, WRITE }
+
+    private final AdmissionControlProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<RouteClass, Cache<String, TokenBucket>> buckets = new EnumMap<>(RouteClass.class);
+    private final LoadShedder loadShedder;
+
+    public AdmissionControlFilter(AdmissionControlProperties properties,
+                                  ObjectMapper objectMapper,
+                                  ObjectProvider<DataSource> dataSource) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        for (RouteClass routeClass : RouteClass.values()) {
+            buckets.put(routeClass, Caffeine.newBuilder()
+                    .maximumSize(properties.getMaxClients())
+                    .expireAfterAccess(properties.getClientIdleTimeout())
+                    .build());
+        }
+        this.loadShedder = new LoadShedder(
+                properties.getMaxConcurrentRequests(),
+                properties.getLatencyThreshold().toNanos(),
+                properties.getPoolWaitThreshold(),
+                () -> threadsAwaitingConnection(dataSource.getIfAvailable()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RouteClass routeClass = classify(request);
+        AdmissionControlProperties.Limit limit = limitFor(routeClass);
+        long now = System.nanoTime();
+
+        TokenBucket bucket = buckets.get(routeClass).get(clientId(request),
+                key -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds(waitNanos),
+                    "Rate limit exceeded for " + routeClass.name().toLowerCase() + " requests");
+            return;
+        }
+
+        if (!loadShedder.tryAcquire()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Server is overloaded, retry later");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            loadShedder.release(System.nanoTime() - now);
+        }
+    }
+
+    private RouteClass classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method) && !HttpMethod.OPTIONS.matches(method)) {
+            return RouteClass.WRITE;
+        }
+        return request.getRequestURI().endsWith("/search") ? RouteClass.SEARCH : RouteClass.READ;
+    }
+
+    private AdmissionControlProperties.Limit limitFor(RouteClass routeClass) {
+        return switch (routeClass) {
+            case READ -> properties.getRead();
+            case SEARCH -> properties.getSearch();
+            case WRITE -> properties.getWrite();
+        };
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String apiKey = request.getHeader(properties.getClientHeader());
+        if (apiKey != null && properties.getPartnerKeys().contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(status.value(), message, LocalDateTime.now()));
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static int threadsAwaitingConnection(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return pool != null ? pool.getThreadsAwaitingConnection() : 0;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,50 @@
+package com.technology309.eventmanager.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Concurrency limiter that halves its limit while the smoothed request latency or
+ * the number of threads waiting on the connection pool is above its threshold.
+ */
+final class LoadShedder {
+    private static final double EWMA_WEIGHT = 0.1;
+
+    private final int maxConcurrent;
+    private final long latencyThresholdNanos;
+    private final int poolWaitThreshold;
+    private final IntSupplier poolWaiters;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong latencyEwmaNanos = new AtomicLong();
+
+    LoadShedder(int maxConcurrent, long latencyThresholdNanos, int poolWaitThreshold, IntSupplier poolWaiters) {
+        this.maxConcurrent = maxConcurrent;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.poolWaitThreshold = poolWaitThreshold;
+        this.poolWaiters = poolWaiters;
+    }
+
+    boolean tryAcquire() {
+        int limit = isOverloaded() ? Math.max(1, maxConcurrent / 2) : maxConcurrent;
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long elapsedNanos) {
+        inFlight.decrementAndGet();
+        latencyEwmaNanos.accumulateAndGet(elapsedNanos,
+                (ewma, sample) -> ewma == 0 ? sample : (long) (ewma + EWMA_WEIGHT * (sample - ewma)));
+    }
+
+    boolean isOverloaded() {
+        return latencyEwmaNanos.get() > latencyThresholdNanos || poolWaiters.getAsInt() > poolWaitThreshold;
+    }
+}
@@ -0,0 +1,302 @@
+package com.technology309.eventmanager.index;
+
+import com.technology309.eventmanager.model.Event;
+import com.technology309.eventmanager.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Multi-level grid index over event coordinates: every event is filed in grids
+ * of 0.01, 0.1, 1 and 10 degree cells. A radius query picks the finest grid it
+ * can answer by visiting at most {@value #MAX_VISITED_CELLS} cells, either by
+ * probing the cells overlapping its bounding box or, when the grid holds fewer
+ * non-empty cells than that, by scanning those. Candidates are then filtered by
+ * great-circle distance.
+ *
+ * <p>The level follows the radius and the latitude: a wide query or one near a
+ * pole, whose bounding box spans many longitude cells, falls back to coarser
+ * cells instead of probing hundreds of thousands of empty ones.
+ *
+ * <p>The grids are published together as one {@link Snapshot}: a rebuild fills a
+ * fresh snapshot and swaps it in. Writes made on other instances arrive through
+ * {@link #refresh()}, which loads the coordinates of rows updated since the
+ * previous load plus the ids of located events, so results can be missing or stale
+ * for up to {@code eventmanager.geo-index.refresh-interval}.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventGeoIndex implements EventIndex {
+    private static final double[] CELL_DEGREES = {0.01, 0.1, 1.0, 10.0};
+    static final int MAX_VISITED_CELLS = 1_024;
+    public static final double MAX_RADIUS_KM = 100.0;
+    /** Re-read rows updated this long before the previous load, for transactions that committed late. */
+    static final Duration LATE_COMMIT_MARGIN = Duration.ofMinutes(2);
+
+    private static final double EARTH_RADIUS_KM = 6_371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final EventRepository eventRepository;
+    private volatile Snapshot snapshot = new Snapshot();
+    /** When the queries of the last rebuild or refresh started; {@code null} until the first rebuild. */
+    private LocalDateTime lastLoad;
+    /** Writes applied while a rebuild or refresh reads the table, replayed over what it loaded. */
+    private List<Runnable> writesDuringLoad;
+
+    private record Point(long id, double latitude, double longitude) {
+    }
+
+    private record Snapshot(Grid[] grids, Map<Long, Point> byId) {
+        Snapshot() {
+            this(Arrays.stream(CELL_DEGREES).mapToObj(Grid::new).toArray(Grid[]::new), new ConcurrentHashMap<>());
+        }
+
+        void put(Point point) {
+            remove(point.id());
+            byId.put(point.id(), point);
+            for (Grid grid : grids) {
+                grid.put(point);
+            }
+        }
+
+        void remove(Long id) {
+            Point point = byId.remove(id);
+            if (point != null) {
+                for (Grid grid : grids) {
+                    grid.remove(point);
+                }
+            }
+        }
+    }
+
+    private record Hit(long id, double distanceKm) {
+    }
+
+    /**
+     * Ids of events within {@code radiusKm} of the given point, nearest first.
+     */
+    public List<Long> nearby(double latitude, double longitude, double radiusKm, int limit) {
+        double latitudeSpan = radiusKm / KM_PER_DEGREE;
+        // a circle around a pole covers every longitude
+        double longitudeSpan = Math.abs(latitude) + latitudeSpan >= 90.0 ? 180.0 : Math.toDegrees(Math.asin(
+                Math.min(1.0, Math.sin(Math.toRadians(latitudeSpan)) / Math.cos(Math.toRadians(latitude)))));
+        Box box = new Box(Math.max(-90.0, latitude - latitudeSpan), Math.min(90.0, latitude + latitudeSpan),
+                longitude - longitudeSpan, longitude + longitudeSpan);
+
+        List<Hit> hits = new ArrayList<>();
+        gridFor(snapshot.grids(), box).forEachPoint(box, point -> {
+            double distance = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+            if (distance <= radiusKm) {
+                hits.add(new Hit(point.id(), distance));
+            }
+        });
+        return hits.stream()
+                .sorted(Comparator.comparingDouble(Hit::distanceKm))
+                .limit(limit)
+                .map(Hit::id)
+                .toList();
+    }
+
+    /** The finest grid that answers {@code box} within the visit budget; the coarsest always does. */
+    private static Grid gridFor(Grid[] grids, Box box) {
+        for (Grid grid : grids) {
+            if (grid.cellsToVisit(box) <= MAX_VISITED_CELLS) {
+                return grid;
+            }
+        }
+        return grids[grids.length - 1];
+    }
+
+    @Override
+    public void rebuild() {
+        startRecordingWrites();
+        try {
+            LocalDateTime started = LocalDateTime.now();
+            List<Object[]> coordinates = eventRepository.findAllCoordinates();
+            Snapshot loaded = new Snapshot();
+            for (Object[] row : coordinates) {
+                Point point = new Point((Long) row[0], (Double) row[1], (Double) row[2]);
+                loaded.byId().put(point.id(), point);
+            }
+            // one grid at a time keeps each grid's cells close together in memory
+            for (Grid grid : loaded.grids()) {
+                loaded.byId().values().forEach(grid::put);
+            }
+            synchronized (this) {
+                snapshot = loaded;
+                writesDuringLoad.forEach(Runnable::run);
+                lastLoad = started;
+            }
+        } finally {
+            stopRecordingWrites();
+        }
+    }
+
+    /**
+     * Picks up events written by other instances: reloads coordinates of rows updated
+     * since the previous load and drops entries whose row is gone (deleted or archived).
+     */
+    @Scheduled(fixedDelayString = "${eventmanager.geo-index.refresh-interval:PT1M}",
+            initialDelayString = "${eventmanager.geo-index.refresh-interval:PT1M}")
+    public void refresh() {
+        LocalDateTime since;
+        synchronized (this) {
+            if (lastLoad == null) {
+                return;
+            }
+            since = lastLoad.minus(LATE_COMMIT_MARGIN);
+        }
+        startRecordingWrites();
+        try {
+            LocalDateTime started = LocalDateTime.now();
+            Set<Long> located = new HashSet<>(eventRepository.findIdsWithCoordinates());
+            List<Object[]> changed = eventRepository.findCoordinatesUpdatedSince(since);
+            synchronized (this) {
+                List.copyOf(snapshot.byId().keySet()).stream()
+                        .filter(id -> !located.contains(id))
+                        .forEach(snapshot::remove);
+                for (Object[] row : changed) {
+                    put((Long) row[0], (Double) row[1], (Double) row[2]);
+                }
+                writesDuringLoad.forEach(Runnable::run);
+                lastLoad = started;
+            }
+        } finally {
+            stopRecordingWrites();
+        }
+    }
+
+    @Override
+    public synchronized void onSaved(Event event) {
+        apply(() -> put(event.getId(), event.getLatitude(), event.getLongitude()));
+    }
+
+    @Override
+    public synchronized void onRemoved(Long id) {
+        apply(() -> snapshot.remove(id));
+    }
+
+    private synchronized void startRecordingWrites() {
+        writesDuringLoad = new ArrayList<>();
+    }
+
+    private synchronized void stopRecordingWrites() {
+        writesDuringLoad = null;
+    }
+
+    private void apply(Runnable write) {
+        write.run();
+        if (writesDuringLoad != null) {
+            writesDuringLoad.add(write);
+        }
+    }
+
+    private void put(Long id, Double latitude, Double longitude) {
+        if (latitude != null && longitude != null) {
+            snapshot.put(new Point(id, latitude, longitude));
+        } else {
+            snapshot.remove(id);
+        }
+    }
+
+    private static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /** Query bounding box; longitudes may run past ±180 and wrap. */
+    private record Box(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+    }
+
+    /** One level of the index: non-empty cells of {@code cellDegrees}, keyed by row and column. */
+    private static final class Grid {
+        private final double cellDegrees;
+        private final int longitudeCells;
+        private final Map<Long, Map<Long, Point>> cells = new ConcurrentHashMap<>();
+
+        Grid(double cellDegrees) {
+            this.cellDegrees = cellDegrees;
+            this.longitudeCells = (int) Math.round(360 / cellDegrees);
+        }
+
+        long cellsToVisit(Box box) {
+            return Math.min(probes(box), cells.size());
+        }
+
+        void forEachPoint(Box box, Consumer<Point> action) {
+            int minRow = row(box.minLatitude());
+            int maxRow = row(box.maxLatitude());
+            int firstColumn = column(box.minLongitude());
+            int columns = columns(box, firstColumn);
+            if (probes(box) <= cells.size()) {
+                for (int row = minRow; row <= maxRow; row++) {
+                    for (int i = 0; i < columns; i++) {
+                        Map<Long, Point> cell = cells.get(cellKey(row, Math.floorMod(firstColumn + i, longitudeCells)));
+                        if (cell != null) {
+                            cell.values().forEach(action);
+                        }
+                    }
+                }
+                return;
+            }
+            cells.forEach((key, cell) -> {
+                int row = (int) (key >> 32);
+                int column = key.intValue();
+                if (row >= minRow && row <= maxRow && Math.floorMod(column - firstColumn, longitudeCells) < columns) {
+                    cell.values().forEach(action);
+                }
+            });
+        }
+
+        void put(Point point) {
+            cells.computeIfAbsent(cellOf(point), key -> new ConcurrentHashMap<>()).put(point.id(), point);
+        }
+
+        void remove(Point point) {
+            cells.computeIfPresent(cellOf(point), (key, cell) -> {
+                cell.remove(point.id());
+                return cell.isEmpty() ? null : cell;
+            });
+        }
+
+        private long probes(Box box) {
+            long rows = row(box.maxLatitude()) - row(box.minLatitude()) + 1;
+            return rows * columns(box, column(box.minLongitude()));
+        }
+
+        private int columns(Box box, int firstColumn) {
+            return Math.min(longitudeCells, column(box.maxLongitude()) - firstColumn + 1);
+        }
+
+        private long cellOf(Point point) {
+            return cellKey(row(point.latitude()), Math.floorMod(column(point.longitude()), longitudeCells));
+        }
+
+        private int row(double latitude) {
+            return (int) Math.floor(latitude / cellDegrees);
+        }
+
+        private int column(double longitude) {
+            return (int) Math.floor(longitude / cellDegrees);
+        }
+
+        private static long cellKey(int row, int column) {
+            return ((long) row << 32) | (column & 0xFFFFFFFFL);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.technology309.eventmanager.index;
+
+import com.technology309.eventmanager.model.Event;
+import com.technology309.eventmanager.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Membership bitset over the ids in {@code events}, one bit per id. Lets not-found
+ * lookups answer without a database round-trip.
+ *
+ * <p>Other instances insert events this one never sees, so the bitset is only
+ * trusted up to a settled id: the highest id created at least {@link #SETTLE_TIME}
+ * ago when the index last read the table. Ids above it, and above
+ * {@link #MAX_INDEXED_ID}, are reported as possibly present and left to the
+ * database. {@link #SETTLE_TIME} exceeds InnoDB's default lock wait timeout (50 s),
+ * so an insert holding a lower id has normally committed by then. One that commits
+ * later still is picked up by the next {@link #refresh()}, which re-reads every id
+ * created within {@link #RESCAN_WINDOW}; until then it is reported missing.
+ *
+ * <p>A delete on another instance leaves a stale bit, which only costs a database
+ * lookup. False negatives are limited to inserts that commit more than
+ * {@link #SETTLE_TIME} after {@code created_at} (briefly) or more than
+ * {@link #RESCAN_WINDOW} after it (until the next restart), and to instance clocks
+ * that disagree by more than {@link #SETTLE_TIME}.
+ *
+ * <p>Reads are lock-free; writes are synchronized so the array can grow.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventIdIndex implements EventIndex {
+    /** Highest id kept in the bitset; caps it at 16 MiB. */
+    static final long MAX_INDEXED_ID = (1L << 27) - 1;
+    static final Duration SETTLE_TIME = Duration.ofMinutes(2);
+    static final Duration RESCAN_WINDOW = Duration.ofMinutes(10);
+
+    private final EventRepository eventRepository;
+    private volatile AtomicLongArray words = new AtomicLongArray(0);
+    /** Highest id answered from the bitset; -1 until the first rebuild completes. */
+    private volatile long settledId = -1;
+
+    public boolean mightContain(Long id) {
+        if (id == null || id < 0) {
+            return false;
+        }
+        if (id > settledId || id > MAX_INDEXED_ID) {
+            return true;
+        }
+        AtomicLongArray current = words;
+        int word = (int) (id >>> 6);
+        return word < current.length() && (current.get(word) & (1L << id)) != 0;
+    }
+
+    @Override
+    public void rebuild() {
+        synchronized (this) {
+            settledId = -1;
+            words = new AtomicLongArray(0);
+        }
+        long settled = settledIdInDatabase();
+        eventRepository.findAllIds().forEach(this::add);
+        settledId = settled;
+    }
+
+    /**
+     * Loads ids created within {@link #RESCAN_WINDOW}, including those from other
+     * instances and those that committed after a higher id had settled, and advances
+     * the settled id.
+     */
+    @Scheduled(fixedDelayString = "${eventmanager.id-index.refresh-interval:PT30S}",
+            initialDelayString = "${eventmanager.id-index.refresh-interval:PT30S}")
+    public void refresh() {
+        if (settledId < 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime settleCutoff = now.minus(SETTLE_TIME);
+        long settled = -1;
+        for (Object[] row : eventRepository.findIdsCreatedSince(now.minus(RESCAN_WINDOW))) {
+            Long id = (Long) row[0];
+            add(id);
+            if (((LocalDateTime) row[1]).isBefore(settleCutoff)) {
+                settled = Math.max(settled, id);
+            }
+        }
+        synchronized (this) {
+            if (settledId >= 0) {
+                settledId = Math.max(settledId, settled);
+            }
+        }
+    }
+
+    @Override
+    public void onSaved(Event event) {
+        add(event.getId());
+    }
+
+    @Override
+    public synchronized void onRemoved(Long id) {
+        if (id == null || id < 0 || id > MAX_INDEXED_ID) {
+            return;
+        }
+        int word = (int) (id >>> 6);
+        if (word < words.length()) {
+            words.getAndAccumulate(word, 1L << id, (bits, mask) -> bits & ~mask);
+        }
+    }
+
+    private long settledIdInDatabase() {
+        Long id = eventRepository.findMaxIdCreatedBefore(LocalDateTime.now().minus(SETTLE_TIME));
+        return id != null ? id : 0;
+    }
+
+    private synchronized void add(Long id) {
+        if (id == null || id < 0 || id > MAX_INDEXED_ID) {
+            return;
+        }
+        int word = (int) (id >>> 6);
+        AtomicLongArray current = words;
+        if (word >= current.length()) {
+            int maxWords = (int) (MAX_INDEXED_ID >>> 6) + 1;
+            AtomicLongArray grown = new AtomicLongArray(Math.min(maxWords, Math.max(word + 1, current.length() * 2)));
+            for (int i = 0; i < current.length(); i++) {
+                grown.set(i, current.get(i));
+            }
+            words = grown;
+            current = grown;
+        }
+        current.getAndAccumulate(word, 1L << id, (bits, mask) -> bits | mask);
+    }
+}
@@ -0,0 +1,17 @@
+package com.technology309.eventmanager.index;
+
+import com.technology309.eventmanager.model.Event;
+
+/**
+ * In-memory structure derived from the {@code events} table. Implementations are
+ * rebuilt once at startup by {@link EventIndexLoader} and then kept current by
+ * {@link EventIndexListener} after each committed write.
+ */
+public interface EventIndex {
+
+    void rebuild();
+
+    void onSaved(Event event);
+
+    void onRemoved(Long id);
+}
@@ -0,0 +1,50 @@
+package com.technology309.eventmanager.index;
+
+import com.technology309.eventmanager.model.Event;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that forwards {@link Event} writes to every {@link EventIndex}
+ * once the surrounding transaction commits, so rolled-back writes never reach the
+ * indexes. Hibernate obtains it from the Spring context; the indexes are resolved
+ * lazily because they depend on repositories that need the entity manager factory.
+ */
+@Component
+public class EventIndexListener {
+    private final ObjectProvider<EventIndex> eventIndexes;
+
+    public EventIndexListener(ObjectProvider<EventIndex> eventIndexes) {
+        this.eventIndexes = eventIndexes;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Event event) {
+        afterCommit(() -> eventIndexes.forEach(index -> index.onSaved(event)));
+    }
+
+    @PostRemove
+    public void onRemoved(Event event) {
+        Long id = event.getId();
+        afterCommit(() -> eventIndexes.forEach(index -> index.onRemoved(id)));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
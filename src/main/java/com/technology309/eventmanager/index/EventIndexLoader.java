@@ -0,0 +1,34 @@
+package com.technology309.eventmanager.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds every {@link EventIndex} before the instance is marked ready (see
+ * {@code /actuator/health/readiness}) and before the cache warm-up runs.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class EventIndexLoader implements ApplicationRunner {
+    private final List<EventIndex> eventIndexes;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (EventIndex index : eventIndexes) {
+            long start = System.nanoTime();
+            index.rebuild();
+            log.info("Built {} in {} ms", index.getClass().getSimpleName(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+}
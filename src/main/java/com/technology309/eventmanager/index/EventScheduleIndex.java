@@ -0,0 +1,272 @@
+package com.technology309.eventmanager.index;
+
+import com.technology309.eventmanager.dto.EventSlot;
+import com.technology309.eventmanager.model.Event;
+import com.technology309.eventmanager.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Per-location interval index over event windows {@code [startDate, endDate)}.
+ * Locations are matched by {@link Event#locationKey(String)}, the same key the
+ * database enforcement query uses.
+ *
+ * <p>Each location holds an immutable interval tree: slots sorted by start time,
+ * viewed as an implicit balanced tree in which every node records the latest end
+ * time in its subtree. An overlap query skips subtrees that end before the window
+ * opens and stops at nodes starting after it closes, so it visits
+ * O(log n + matches) nodes. Writes rebuild the tree of the affected location and
+ * swap it in, keeping reads lock-free.
+ *
+ * <p>The trees are published together as one {@link Snapshot}: a rebuild loads a
+ * fresh snapshot and swaps it in. Writes made on other instances arrive through
+ * {@link #refresh()}, which loads only slots updated since the previous load plus
+ * the ids of all events, so {@code GET /conflicts} can miss or misplace events
+ * written elsewhere for up to {@code eventmanager.schedule-index.refresh-interval}.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventScheduleIndex implements EventIndex {
+    /** Re-read rows updated this long before the previous load, for transactions that committed late. */
+    static final Duration LATE_COMMIT_MARGIN = Duration.ofMinutes(2);
+
+    private static final Comparator<EventSlot> BY_START =
+            Comparator.comparing(EventSlot::startDate).thenComparing(EventSlot::id);
+
+    private final EventRepository eventRepository;
+    private volatile Snapshot snapshot = new Snapshot();
+    /** When the queries of the last rebuild or refresh started; {@code null} until the first rebuild. */
+    private LocalDateTime lastLoad;
+    /** Writes applied while a rebuild or refresh reads the table, replayed over what it loaded. */
+    private List<Runnable> writesDuringLoad;
+
+    private record Snapshot(Map<String, IntervalTree> byLocation, Map<Long, String> locationById) {
+        Snapshot() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        /**
+         * Drops {@code removedIds} and upserts {@code slots}, rebuilding each affected
+         * location's tree once.
+         */
+        void update(Collection<Long> removedIds, Collection<EventSlot> slots) {
+            Map<String, Set<Long>> removals = new HashMap<>();
+            Map<String, List<EventSlot>> additions = new HashMap<>();
+            for (Long id : removedIds) {
+                String location = locationById.remove(id);
+                if (location != null) {
+                    removals.computeIfAbsent(location, k -> new HashSet<>()).add(id);
+                }
+            }
+            for (EventSlot slot : slots) {
+                String previous = locationById.remove(slot.id());
+                if (previous != null) {
+                    removals.computeIfAbsent(previous, k -> new HashSet<>()).add(slot.id());
+                }
+                if (isIndexable(slot)) {
+                    String location = Event.locationKey(slot.location());
+                    additions.computeIfAbsent(location, k -> new ArrayList<>()).add(slot);
+                    locationById.put(slot.id(), location);
+                }
+            }
+            Set<String> locations = new HashSet<>(removals.keySet());
+            locations.addAll(additions.keySet());
+            for (String location : locations) {
+                byLocation.compute(location, (k, tree) -> IntervalTree.of(tree,
+                        removals.getOrDefault(location, Set.of()), additions.getOrDefault(location, List.of())));
+            }
+        }
+    }
+
+    /**
+     * Events at {@code location} whose window overlaps {@code [start, end)}, earliest
+     * start first. {@code excludeId} (nullable) leaves out the event being edited.
+     */
+    public List<EventSlot> overlapping(String location, LocalDateTime start, LocalDateTime end, Long excludeId) {
+        IntervalTree tree = snapshot.byLocation().get(Event.locationKey(location));
+        if (tree == null) {
+            return List.of();
+        }
+        return tree.overlapping(toEpochMillis(start), toEpochMillis(end), excludeId);
+    }
+
+    @Override
+    public void rebuild() {
+        startRecordingWrites();
+        try {
+            LocalDateTime started = LocalDateTime.now();
+            Snapshot loaded = new Snapshot();
+            eventRepository.findAllSlots().stream()
+                    .filter(EventScheduleIndex::isIndexable)
+                    .collect(Collectors.groupingBy(slot -> Event.locationKey(slot.location())))
+                    .forEach((location, slots) -> {
+                        loaded.byLocation().put(location, IntervalTree.of(null, Set.of(), slots));
+                        slots.forEach(slot -> loaded.locationById().put(slot.id(), location));
+                    });
+            synchronized (this) {
+                snapshot = loaded;
+                writesDuringLoad.forEach(Runnable::run);
+                lastLoad = started;
+            }
+        } finally {
+            stopRecordingWrites();
+        }
+    }
+
+    /**
+     * Picks up events written by other instances: reloads slots updated since the
+     * previous load and drops entries whose row is gone (deleted or archived).
+     */
+    @Scheduled(fixedDelayString = "${eventmanager.schedule-index.refresh-interval:PT1M}",
+            initialDelayString = "${eventmanager.schedule-index.refresh-interval:PT1M}")
+    public void refresh() {
+        LocalDateTime since;
+        synchronized (this) {
+            if (lastLoad == null) {
+                return;
+            }
+            since = lastLoad.minus(LATE_COMMIT_MARGIN);
+        }
+        startRecordingWrites();
+        try {
+            LocalDateTime started = LocalDateTime.now();
+            Set<Long> live = new HashSet<>(eventRepository.findAllIds());
+            List<EventSlot> changed = eventRepository.findSlotsUpdatedSince(since);
+            synchronized (this) {
+                List<Long> gone = snapshot.locationById().keySet().stream()
+                        .filter(id -> !live.contains(id))
+                        .toList();
+                snapshot.update(gone, changed);
+                writesDuringLoad.forEach(Runnable::run);
+                lastLoad = started;
+            }
+        } finally {
+            stopRecordingWrites();
+        }
+    }
+
+    @Override
+    public synchronized void onSaved(Event event) {
+        EventSlot slot = new EventSlot(event.getId(), event.getTitle(), event.getLocation(),
+                event.getStartDate(), event.getEndDate());
+        apply(() -> snapshot.update(List.of(), List.of(slot)));
+    }
+
+    @Override
+    public synchronized void onRemoved(Long id) {
+        apply(() -> snapshot.update(List.of(id), List.of()));
+    }
+
+    private synchronized void startRecordingWrites() {
+        writesDuringLoad = new ArrayList<>();
+    }
+
+    private synchronized void stopRecordingWrites() {
+        writesDuringLoad = null;
+    }
+
+    private void apply(Runnable write) {
+        write.run();
+        if (writesDuringLoad != null) {
+            writesDuringLoad.add(write);
+        }
+    }
+
+    private static boolean isIndexable(EventSlot slot) {
+        return slot.location() != null && slot.startDate() != null && slot.endDate() != null
+                && slot.startDate().isBefore(slot.endDate());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static final class IntervalTree {
+        private final EventSlot[] slots;
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEnds;
+
+        private IntervalTree(EventSlot[] slots) {
+            this.slots = slots;
+            this.starts = new long[slots.length];
+            this.ends = new long[slots.length];
+            this.maxEnds = new long[slots.length];
+            for (int i = 0; i < slots.length; i++) {
+                starts[i] = toEpochMillis(slots[i].startDate());
+                ends[i] = toEpochMillis(slots[i].endDate());
+            }
+            build(0, slots.length);
+        }
+
+        /**
+         * {@code base} (nullable) without {@code removedIds} plus {@code added}; returns
+         * {@code null} once the last slot is gone, dropping the location.
+         */
+        static IntervalTree of(IntervalTree base, Set<Long> removedIds, List<EventSlot> added) {
+            List<EventSlot> slots = new ArrayList<>(added);
+            if (base != null) {
+                for (EventSlot slot : base.slots) {
+                    if (!removedIds.contains(slot.id())) {
+                        slots.add(slot);
+                    }
+                }
+            }
+            if (slots.isEmpty()) {
+                return null;
+            }
+            EventSlot[] sorted = slots.toArray(EventSlot[]::new);
+            Arrays.sort(sorted, BY_START);
+            return new IntervalTree(sorted);
+        }
+
+        List<EventSlot> overlapping(long from, long to, Long excludeId) {
+            List<EventSlot> hits = new ArrayList<>();
+            collect(0, slots.length, from, to, excludeId, hits);
+            return hits;
+        }
+
+        private long build(int lo, int hi) {
+            if (lo >= hi) {
+                return Long.MIN_VALUE;
+            }
+            int mid = (lo + hi) >>> 1;
+            maxEnds[mid] = Math.max(ends[mid], Math.max(build(lo, mid), build(mid + 1, hi)));
+            return maxEnds[mid];
+        }
+
+        private void collect(int lo, int hi, long from, long to, Long excludeId, List<EventSlot> hits) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (maxEnds[mid] <= from) {
+                return;
+            }
+            collect(lo, mid, from, to, excludeId, hits);
+            if (starts[mid] >= to) {
+                return;
+            }
+            if (ends[mid] > from && !slots[mid].id().equals(excludeId)) {
+                hits.add(slots[mid]);
+            }
+            collect(mid + 1, hi, from, to, excludeId, hits);
+        }
+    }
+}
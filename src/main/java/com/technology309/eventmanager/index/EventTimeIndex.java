@@ -0,0 +1,222 @@
+package com.technology309.eventmanager.index;
+
+import com.technology309.eventmanager.model.Event;
+import com.technology309.eventmanager.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Ongoing and upcoming events ordered by start and end time, kept as epoch
+ * milliseconds in concurrent skip lists. Serves "happening now" and "upcoming"
+ * queries without a database round-trip.
+ *
+ * <p>Events drop out of the index once they end: each query first evicts entries
+ * from the head of the end-ordered set, so after pruning every entry that has
+ * started is ongoing.
+ *
+ * <p>The sets are published together as one {@link Snapshot}: a rebuild loads a
+ * fresh snapshot and swaps it in, so queries never see a half-filled index.
+ * Writes made on other instances arrive through {@link #refresh()}, which loads
+ * only rows updated since the previous load plus the ids of events that have not
+ * ended, so events created, changed or deleted elsewhere can be missing or stale
+ * for up to {@code eventmanager.time-index.refresh-interval}.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventTimeIndex implements EventIndex {
+    /** Re-read rows updated this long before the previous load, for transactions that committed late. */
+    static final Duration LATE_COMMIT_MARGIN = Duration.ofMinutes(2);
+
+    private static final Comparator<Entry> BY_START =
+            Comparator.comparingLong(Entry::start).thenComparingLong(Entry::id);
+    private static final Comparator<Entry> BY_END =
+            Comparator.comparingLong(Entry::end).thenComparingLong(Entry::id);
+
+    private final EventRepository eventRepository;
+    private volatile Snapshot snapshot = new Snapshot();
+    /** When the queries of the last rebuild or refresh started; {@code null} until the first rebuild. */
+    private LocalDateTime lastLoad;
+    /** Writes applied while a rebuild or refresh reads the table, replayed over what it loaded. */
+    private List<Runnable> writesDuringLoad;
+
+    private record Entry(long id, long start, long end, Event event) {
+    }
+
+    private record Snapshot(NavigableSet<Entry> byStart, NavigableSet<Entry> byEnd, Map<Long, Entry> byId) {
+        Snapshot() {
+            this(new ConcurrentSkipListSet<>(BY_START), new ConcurrentSkipListSet<>(BY_END), new ConcurrentHashMap<>());
+        }
+
+        void put(Event event) {
+            Entry entry = new Entry(event.getId(), toEpochMillis(event.getStartDate()),
+                    toEpochMillis(event.getEndDate()), event);
+            byId.put(entry.id(), entry);
+            byStart.add(entry);
+            byEnd.add(entry);
+        }
+
+        void remove(Long id) {
+            Entry entry = byId.remove(id);
+            if (entry != null) {
+                byStart.remove(entry);
+                byEnd.remove(entry);
+            }
+        }
+    }
+
+    /** Events with {@code startDate <= now < endDate}, earliest start first. */
+    public List<Event> happeningNow(LocalDateTime now, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long nowMillis = toEpochMillis(now);
+        Snapshot current = pruneEndedBefore(nowMillis);
+        List<Event> events = new ArrayList<>(Math.min(limit, 64));
+        for (Entry entry : current.byStart().headSet(new Entry(Long.MAX_VALUE, nowMillis, 0, null), true)) {
+            if (events.size() == limit) {
+                break;
+            }
+            if (entry.end() > nowMillis) {
+                events.add(entry.event());
+            }
+        }
+        return events;
+    }
+
+    /** Events with {@code startDate > now}, soonest first. */
+    public List<Event> upcoming(LocalDateTime now, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long nowMillis = toEpochMillis(now);
+        Snapshot current = pruneEndedBefore(nowMillis);
+        List<Event> events = new ArrayList<>(Math.min(limit, 64));
+        for (Entry entry : current.byStart().tailSet(new Entry(Long.MAX_VALUE, nowMillis, 0, null), false)) {
+            if (events.size() == limit) {
+                break;
+            }
+            events.add(entry.event());
+        }
+        return events;
+    }
+
+    @Override
+    public void rebuild() {
+        startRecordingWrites();
+        try {
+            LocalDateTime started = LocalDateTime.now();
+            Snapshot loaded = new Snapshot();
+            eventRepository.findByEndDateAfter(started).forEach(loaded::put);
+            synchronized (this) {
+                snapshot = loaded;
+                writesDuringLoad.forEach(Runnable::run);
+                lastLoad = started;
+            }
+        } finally {
+            stopRecordingWrites();
+        }
+    }
+
+    /**
+     * Picks up events written by other instances: reloads rows updated since the
+     * previous load and drops entries whose row is gone (deleted or archived).
+     */
+    @Scheduled(fixedDelayString = "${eventmanager.time-index.refresh-interval:PT1M}",
+            initialDelayString = "${eventmanager.time-index.refresh-interval:PT1M}")
+    public void refresh() {
+        LocalDateTime since;
+        synchronized (this) {
+            if (lastLoad == null) {
+                return;
+            }
+            since = lastLoad.minus(LATE_COMMIT_MARGIN);
+        }
+        startRecordingWrites();
+        try {
+            LocalDateTime started = LocalDateTime.now();
+            Set<Long> live = new HashSet<>(eventRepository.findIdsByEndDateAfter(started));
+            List<Event> changed = eventRepository.findByUpdatedAtAfterAndEndDateAfter(since, started);
+            synchronized (this) {
+                List.copyOf(snapshot.byId().keySet()).stream()
+                        .filter(id -> !live.contains(id))
+                        .forEach(snapshot::remove);
+                changed.forEach(this::upsert);
+                writesDuringLoad.forEach(Runnable::run);
+                lastLoad = started;
+            }
+        } finally {
+            stopRecordingWrites();
+        }
+    }
+
+    @Override
+    public synchronized void onSaved(Event event) {
+        apply(() -> upsert(event));
+    }
+
+    @Override
+    public synchronized void onRemoved(Long id) {
+        apply(() -> snapshot.remove(id));
+    }
+
+    private synchronized void startRecordingWrites() {
+        writesDuringLoad = new ArrayList<>();
+    }
+
+    private synchronized void stopRecordingWrites() {
+        writesDuringLoad = null;
+    }
+
+    private void apply(Runnable write) {
+        write.run();
+        if (writesDuringLoad != null) {
+            writesDuringLoad.add(write);
+        }
+    }
+
+    private void upsert(Event event) {
+        Snapshot current = snapshot;
+        current.remove(event.getId());
+        if (event.getStartDate() != null && event.getEndDate() != null
+                && event.getEndDate().isAfter(LocalDateTime.now())) {
+            current.put(event);
+        }
+    }
+
+    private Snapshot pruneEndedBefore(long nowMillis) {
+        Snapshot current = snapshot;
+        Iterator<Entry> head = current.byEnd().iterator();
+        if (!head.hasNext() || head.next().end() > nowMillis) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            NavigableSet<Entry> byEnd = current.byEnd();
+            while (!byEnd.isEmpty() && byEnd.first().end() <= nowMillis) {
+                Entry entry = byEnd.pollFirst();
+                current.byStart().remove(entry);
+                current.byId().remove(entry.id(), entry);
+            }
+            return current;
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
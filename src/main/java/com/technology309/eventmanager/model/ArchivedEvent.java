@@ -0,0 +1,52 @@
+package com.technology309.eventmanager.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * Cold-tier copy of an {@link Event} whose end date has passed. Rows keep the id
+ * they had in {@code events} and are written only by the archive mover.
+ */
+@Data
+@Entity
+@Table(name = "events_archive", indexes = {
+    @Index(name = "idx_events_archive_start_date", columnList = "start_date"),
+    @Index(name = "idx_events_archive_location", columnList = "location"),
+    @Index(name = "idx_events_archive_title", columnList = "title")
+})
+public class ArchivedEvent {
+    @Id
+    private Long id;
+
+    @Column(length = 255)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "start_date")
+    private LocalDateTime startDate;
+
+    @Column(name = "end_date")
+    private LocalDateTime endDate;
+
+    @Column(length = 100)
+    private String location;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(name = "weather_data", columnDefinition = "TEXT")
+    private String weatherData;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+}
@@ -1,17 +1,26 @@
 package com.technology309.eventmanager.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.technology309.eventmanager.index.EventIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Data
 @Entity
+@EntityListeners(EventIndexListener.class)
 @Table(name = "events", indexes = {
     @Index(name = "idx_events_start_date", columnList = "start_date"),
+    @Index(name = "idx_events_end_date", columnList = "end_date"),
     @Index(name = "idx_events_location", columnList = "location"),
-    @Index(name = "idx_events_title", columnList = "title")
+    @Index(name = "idx_events_location_key_start_date", columnList = "location_key, start_date"),
+    @Index(name = "idx_events_title", columnList = "title"),
+    @Index(name = "idx_events_created_at", columnList = "created_at"),
+    @Index(name = "idx_events_updated_at", columnList = "updated_at")
 })
 public class Event {
     @Id
@@ -38,6 +47,17 @@ public class Event {
     @Column(length = 100)
     private String location;
 
+    /** {@link #locationKey(String)} of {@link #location}, maintained on every write. */
+    @JsonIgnore
+    @Column(name = "location_key", length = 100)
+    private String locationKey;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Double latitude;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Double longitude;
+
     @Column(name = "weather_data", columnDefinition = "TEXT")
     private String weatherData;
 
@@ -51,10 +71,20 @@ public class Event {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        locationKey = locationKey(location);
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        locationKey = locationKey(location);
+    }
+
+    /**
+     * Normalised location used to match events at the same venue: trimmed and
+     * lower-cased, so "Main Hall" and "main hall " are one location.
+     */
+    public static String locationKey(String location) {
+        return location == null ? null : location.trim().toLowerCase(Locale.ROOT);
     }
 } 
\ No newline at end of file
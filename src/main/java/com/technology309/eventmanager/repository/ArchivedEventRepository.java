@@ -0,0 +1,16 @@
+package com.technology309.eventmanager.repository;
+
+import com.technology309.eventmanager.model.ArchivedEvent;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+    Page<ArchivedEvent> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+    Page<ArchivedEvent> findByLocationContainingIgnoreCase(String location, Pageable pageable);
+    Page<ArchivedEvent> findByStartDateBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
+}
@@ -1,16 +1,88 @@
 package com.technology309.eventmanager.repository;
 
+import com.technology309.eventmanager.dto.EventSlot;
 import com.technology309.eventmanager.model.Event;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
     Page<Event> findByTitleContainingIgnoreCase(String title, Pageable pageable);
     Page<Event> findByLocationContainingIgnoreCase(String location, Pageable pageable);
     Page<Event> findByStartDateBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
-} 
\ No newline at end of file
+    List<Event> findByEndDateAfter(LocalDateTime time);
+    List<Event> findByUpdatedAtAfterAndEndDateAfter(LocalDateTime updatedAt, LocalDateTime endDate);
+
+    @Query("select e.id from Event e where e.endDate > :time")
+    List<Long> findIdsByEndDateAfter(LocalDateTime time);
+
+    @Query("select e.id from Event e")
+    List<Long> findAllIds();
+
+    @Query("select e.id, e.createdAt from Event e where e.createdAt >= :since")
+    List<Object[]> findIdsCreatedSince(LocalDateTime since);
+
+    @Query("select max(e.id) from Event e where e.createdAt < :cutoff")
+    Long findMaxIdCreatedBefore(LocalDateTime cutoff);
+
+    @Query("select new com.technology309.eventmanager.dto.EventSlot(e.id, e.title, e.location, e.startDate, e.endDate) "
+            + "from Event e")
+    List<EventSlot> findAllSlots();
+
+    @Query("select new com.technology309.eventmanager.dto.EventSlot(e.id, e.title, e.location, e.startDate, e.endDate) "
+            + "from Event e where e.updatedAt >= :since")
+    List<EventSlot> findSlotsUpdatedSince(LocalDateTime since);
+
+    /**
+     * Events whose {@link Event#locationKey(String) location key} is {@code locationKey}
+     * overlapping {@code [start, end)}, read with a write lock so that, on InnoDB, a
+     * concurrent overlapping insert at the same location waits for the calling transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Event e where e.locationKey = :locationKey and e.startDate < :end and e.endDate > :start "
+            + "and (:excludeId is null or e.id <> :excludeId) order by e.startDate")
+    List<Event> findOverlappingForUpdate(String locationKey, LocalDateTime start, LocalDateTime end, Long excludeId);
+
+    @Query("select distinct e.location from Event e where e.locationKey is null and e.location is not null")
+    List<String> findLocationsWithoutKey();
+
+    @Modifying
+    @Query("update Event e set e.locationKey = :locationKey where e.location = :location and e.locationKey is null")
+    int setLocationKey(String location, String locationKey);
+
+    @Query("select e.id, e.latitude, e.longitude from Event e where e.latitude is not null and e.longitude is not null")
+    List<Object[]> findAllCoordinates();
+
+    @Query("select e.id from Event e where e.latitude is not null and e.longitude is not null")
+    List<Long> findIdsWithCoordinates();
+
+    @Query("select e.id, e.latitude, e.longitude from Event e where e.updatedAt >= :since")
+    List<Object[]> findCoordinatesUpdatedSince(LocalDateTime since);
+
+    /**
+     * Locks a batch of ended events for archiving, skipping rows another instance's
+     * archive run has already locked ({@code FOR UPDATE SKIP LOCKED}).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")) // LockOptions.SKIP_LOCKED
+    @Query("select e.id from Event e where e.endDate < :cutoff order by e.id")
+    List<Long> lockIdsEndedBefore(LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO events_archive (id, title, description, start_date, end_date, location, "
+            + "latitude, longitude, weather_data, created_at, updated_at, archived_at) "
+            + "SELECT id, title, description, start_date, end_date, location, latitude, longitude, weather_data, "
+            + "created_at, updated_at, :archivedAt FROM events WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchive(List<Long> ids, LocalDateTime archivedAt);
+}
@@ -0,0 +1,77 @@
+package com.technology309.eventmanager.service;
+
+import com.technology309.eventmanager.config.CacheWarmupProperties;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Preloads the {@code events} cache before the instance is marked ready: the first
+ * pages of the default listing plus the ids from the last hot-key snapshot. Runs as
+ * an {@link ApplicationRunner}, so {@code /actuator/health/readiness} only reports
+ * {@code UP} once it has finished or timed out. The web server already accepts
+ * connections while it runs; only traffic routed on the readiness probe is held back.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheWarmer implements ApplicationRunner {
+    private final EventService eventService;
+    private final HotKeyTracker hotKeyTracker;
+    private final CacheWarmupProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (properties.isEnabled()) {
+            warmUp();
+        }
+    }
+
+    public void warmUp() throws InterruptedException {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int page = 0; page < properties.getPages(); page++) {
+            PageRequest pageRequest = PageRequest.of(page, properties.getPageSize(),
+                    Sort.by(Sort.Direction.DESC, "startDate"));
+            tasks.add(() -> {
+                eventService.getAllEvents(pageRequest);
+                return null;
+            });
+        }
+        if (properties.getSnapshotFile() == null || properties.getSnapshotFile().isBlank()) {
+            log.warn("eventmanager.cache.warmup.snapshot-file is not set; warming listing pages only");
+        }
+        List<Long> hotIds = hotKeyTracker.readSnapshot();
+        for (Long id : hotIds) {
+            tasks.add(() -> {
+                try {
+                    eventService.getEventById(id);
+                } catch (EntityNotFoundException e) {
+                    // deleted since the snapshot was taken
+                }
+                return null;
+            });
+        }
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getParallelism());
+        try {
+            executor.invokeAll(tasks, properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("Cache warm-up loaded {} pages and {} hot events in {} ms",
+                properties.getPages(), hotIds.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+}
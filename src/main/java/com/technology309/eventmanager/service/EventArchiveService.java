@@ -0,0 +1,126 @@
+package com.technology309.eventmanager.service;
+
+import com.technology309.eventmanager.config.ArchiveProperties;
+import com.technology309.eventmanager.index.EventIndex;
+import com.technology309.eventmanager.model.ArchivedEvent;
+import com.technology309.eventmanager.repository.ArchivedEventRepository;
+import com.technology309.eventmanager.repository.EventRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves events whose end date has passed from {@code events} into
+ * {@code events_archive} and serves history queries from the archive.
+ *
+ * <p>Each batch copies and deletes the same ids in one transaction, so an
+ * interrupted run loses nothing and the next run simply picks up the remaining
+ * rows. Every instance runs the mover; a batch is selected with
+ * {@code FOR UPDATE SKIP LOCKED}, so concurrent runs move disjoint batches instead
+ * of deadlocking on the same rows.
+ */
+@Slf4j
+@Service
+public class EventArchiveService {
+    private final EventRepository eventRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final List<EventIndex> eventIndexes;
+    private final CacheManager cacheManager;
+
+    public EventArchiveService(EventRepository eventRepository,
+                               ArchivedEventRepository archivedEventRepository,
+                               ArchiveProperties properties,
+                               PlatformTransactionManager transactionManager,
+                               List<EventIndex> eventIndexes,
+                               CacheManager cacheManager) {
+        this.eventRepository = eventRepository;
+        this.archivedEventRepository = archivedEventRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventIndexes = eventIndexes;
+        this.cacheManager = cacheManager;
+    }
+
+    @Scheduled(initialDelayString = "${eventmanager.archive.initial-delay:PT5M}",
+            fixedDelayString = "${eventmanager.archive.interval:PT15M}")
+    public int archiveEndedEvents() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getGracePeriod());
+        int total = 0;
+        List<Long> moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            // bulk deletes bypass the entity listener, so update the indexes here
+            for (Long id : moved) {
+                eventIndexes.forEach(index -> index.onRemoved(id));
+            }
+            total += moved.size();
+        } while (moved.size() == properties.getBatchSize());
+
+        if (total > 0) {
+            // a run that moved nothing leaves both caches warm
+            evict("events");
+            evict("archivedEvents");
+            log.info("Archived {} events that ended before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private List<Long> archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = eventRepository.lockIdsEndedBefore(cutoff, PageRequest.of(0, properties.getBatchSize()));
+        if (!ids.isEmpty()) {
+            eventRepository.copyToArchive(ids, LocalDateTime.now());
+            eventRepository.deleteAllByIdInBatch(ids);
+        }
+        return ids;
+    }
+
+    private void evict(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    @Cacheable(value = "archivedEvents", key = "#pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort")
+    public Page<ArchivedEvent> getArchivedEvents(Pageable pageable) {
+        return archivedEventRepository.findAll(pageable);
+    }
+
+    @Cacheable(value = "archivedEvents", key = "'search-' + #title + '-' + #pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort")
+    public Page<ArchivedEvent> searchArchivedEventsByTitle(String title, Pageable pageable) {
+        return archivedEventRepository.findByTitleContainingIgnoreCase(title, pageable);
+    }
+
+    @Cacheable(value = "archivedEvents", key = "'location-' + #location + '-' + #pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort")
+    public Page<ArchivedEvent> searchArchivedEventsByLocation(String location, Pageable pageable) {
+        return archivedEventRepository.findByLocationContainingIgnoreCase(location, pageable);
+    }
+
+    @Cacheable(value = "archivedEvents", key = "'date-' + #start + '-' + #end + '-' + #pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort")
+    public Page<ArchivedEvent> searchArchivedEventsByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        return archivedEventRepository.findByStartDateBetween(start, end, pageable);
+    }
+
+    @Cacheable(value = "archivedEvents", key = "'id-' + #id")
+    public ArchivedEvent getArchivedEventById(Long id) {
+        return archivedEventRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Archived event not found with id: " + id));
+    }
+}
@@ -1,8 +1,15 @@
 package com.technology309.eventmanager.service;
 
+import com.technology309.eventmanager.config.ConflictProperties;
+import com.technology309.eventmanager.dto.EventSlot;
+import com.technology309.eventmanager.exception.EventConflictException;
+import com.technology309.eventmanager.exception.EventNotFoundException;
+import com.technology309.eventmanager.index.EventGeoIndex;
+import com.technology309.eventmanager.index.EventIdIndex;
+import com.technology309.eventmanager.index.EventScheduleIndex;
+import com.technology309.eventmanager.index.EventTimeIndex;
 import com.technology309.eventmanager.model.Event;
 import com.technology309.eventmanager.repository.EventRepository;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -12,37 +19,98 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
     private final EventRepository eventRepository;
     private final WeatherService weatherService;
+    private final EventIdIndex eventIdIndex;
+    private final EventTimeIndex eventTimeIndex;
+    private final EventGeoIndex eventGeoIndex;
+    private final EventScheduleIndex eventScheduleIndex;
+    private final Geocoder geocoder;
+    private final ConflictProperties conflictProperties;
 
-    @Cacheable(value = "events", key = "#pageable.pageNumber + '-' + #pageable.pageSize")
+    @Cacheable(value = "events", key = "#pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort")
     public Page<Event> getAllEvents(Pageable pageable) {
         return eventRepository.findAll(pageable);
     }
 
-    @Cacheable(value = "events", key = "'search-' + #title + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
+    @Cacheable(value = "events", key = "'search-' + #title + '-' + #pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort")
     public Page<Event> searchEventsByTitle(String title, Pageable pageable) {
         return eventRepository.findByTitleContainingIgnoreCase(title, pageable);
     }
 
-    @Cacheable(value = "events", key = "'location-' + #location + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
+    @Cacheable(value = "events", key = "'location-' + #location + '-' + #pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort")
     public Page<Event> searchEventsByLocation(String location, Pageable pageable) {
         return eventRepository.findByLocationContainingIgnoreCase(location, pageable);
     }
 
-    @Cacheable(value = "events", key = "'date-' + #start + '-' + #end + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
+    @Cacheable(value = "events", key = "'date-' + #start + '-' + #end + '-' + #pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort")
     public Page<Event> searchEventsByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable) {
         return eventRepository.findByStartDateBetween(start, end, pageable);
     }
 
+    public List<Event> getEventsHappeningNow(int limit) {
+        return eventTimeIndex.happeningNow(LocalDateTime.now(), limit);
+    }
+
+    public List<Event> getUpcomingEvents(int limit) {
+        return eventTimeIndex.upcoming(LocalDateTime.now(), limit);
+    }
+
+    public List<Event> getEventsNearby(double latitude, double longitude, double radiusKm, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+        if (radiusKm <= 0 || radiusKm > EventGeoIndex.MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("Radius must be between 0 and " + EventGeoIndex.MAX_RADIUS_KM + " km");
+        }
+        while (true) {
+            List<Long> ids = eventGeoIndex.nearby(latitude, longitude, radiusKm, limit);
+            Map<Long, Event> events = eventRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Event::getId, Function.identity()));
+            if (events.size() == ids.size()) {
+                // keep the index's nearest-first order
+                return ids.stream().map(events::get).toList();
+            }
+            // deleted or archived on another instance before the index caught up; drop and ask again
+            ids.stream().filter(id -> !events.containsKey(id)).forEach(eventGeoIndex::onRemoved);
+        }
+    }
+
+    public List<EventSlot> findConflicts(String location, LocalDateTime start, LocalDateTime end, Long excludeId) {
+        if (location == null || location.isBlank()) {
+            throw new IllegalArgumentException("Location is required");
+        }
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("startDate must be before endDate");
+        }
+        return eventScheduleIndex.overlapping(location, start, end, excludeId);
+    }
+
+    /**
+     * Throws {@link EventNotFoundException} when the id index knows the event does not
+     * exist. Callers on the request path invoke this before the cached and transactional
+     * methods: their interceptors wrap thrown exceptions, which captures a stack trace
+     * and formats the message, so this method must stay free of such annotations.
+     */
+    public void requireIndexed(Long id) {
+        if (!eventIdIndex.mightContain(id)) {
+            throw new EventNotFoundException(id);
+        }
+    }
+
     @Cacheable(value = "events", key = "'id-' + #id")
     public Event getEventById(Long id) {
+        requireIndexed(id);
         return eventRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Event not found with id: " + id));
+                .orElseThrow(() -> new EventNotFoundException(id));
     }
 
     @Transactional
@@ -51,6 +119,8 @@ public class EventService {
         // Fetch weather data for the event location
         String weatherData = weatherService.getWeatherData(event.getLocation());
         event.setWeatherData(weatherData);
+        geocode(event, event.getLocation());
+        checkConflicts(event, null);
         return eventRepository.save(event);
     }
 
@@ -58,11 +128,12 @@ public class EventService {
     @CacheEvict(value = "events", allEntries = true)
     public Event updateEvent(Long id, Event eventDetails) {
         Event event = getEventById(id);
-        
+
         // Update weather data if location changed
         if (!event.getLocation().equals(eventDetails.getLocation())) {
             String weatherData = weatherService.getWeatherData(eventDetails.getLocation());
             event.setWeatherData(weatherData);
+            geocode(event, eventDetails.getLocation());
         }
         
         event.setTitle(eventDetails.getTitle());
@@ -71,14 +142,42 @@ public class EventService {
         event.setEndDate(eventDetails.getEndDate());
         event.setLocation(eventDetails.getLocation());
         
+        checkConflicts(eventDetails, id);
         return eventRepository.save(event);
     }
 
+    @Transactional
     @CacheEvict(value = "events", allEntries = true)
     public void deleteEvent(Long id) {
-        if (!eventRepository.existsById(id)) {
-            throw new EntityNotFoundException("Event not found with id: " + id);
+        eventRepository.delete(getEventById(id));
+    }
+
+    /**
+     * Runs right before the save: the overlap query locks the location's range until
+     * the transaction ends, so nothing slow (such as the weather call) may follow it.
+     */
+    private void checkConflicts(Event event, Long excludeId) {
+        if (!conflictProperties.isEnforce() || !event.getStartDate().isBefore(event.getEndDate())) {
+            return;
         }
-        eventRepository.deleteById(id);
+        // the database, not this instance's index, sees events committed on every instance
+        List<EventSlot> conflicts = eventRepository.findOverlappingForUpdate(
+                        Event.locationKey(event.getLocation()), event.getStartDate(), event.getEndDate(), excludeId)
+                .stream()
+                .map(other -> new EventSlot(other.getId(), other.getTitle(), other.getLocation(),
+                        other.getStartDate(), other.getEndDate()))
+                .toList();
+        if (!conflicts.isEmpty()) {
+            throw new EventConflictException(conflicts);
+        }
+    }
+
+    private void geocode(Event event, String location) {
+        event.setLatitude(null);
+        event.setLongitude(null);
+        geocoder.geocode(location).ifPresent(point -> {
+            event.setLatitude(point.latitude());
+            event.setLongitude(point.longitude());
+        });
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
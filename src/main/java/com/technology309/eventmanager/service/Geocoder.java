@@ -0,0 +1,15 @@
+package com.technology309.eventmanager.service;
+
+import com.technology309.eventmanager.dto.GeoPoint;
+
+import java.util.Optional;
+
+/**
+ * Resolves a free-text event location to coordinates. The implementation is chosen
+ * at startup by {@code eventmanager.geocoding.provider}; see
+ * {@link com.technology309.eventmanager.config.GeocodingConfig}.
+ */
+public interface Geocoder {
+
+    Optional<GeoPoint> geocode(String location);
+}
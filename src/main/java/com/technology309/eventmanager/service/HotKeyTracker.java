@@ -0,0 +1,96 @@
+package com.technology309.eventmanager.service;
+
+import com.technology309.eventmanager.config.CacheWarmupProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts by-id lookups and periodically persists the most requested ids so the
+ * next instance can preload them (see {@link CacheWarmer}).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotKeyTracker {
+    private final CacheWarmupProperties properties;
+    private volatile Map<Long, LongAdder> window = new ConcurrentHashMap<>();
+
+    public void recordAccess(Long id) {
+        Map<Long, LongAdder> counts = window;
+        LongAdder counter = counts.get(id);
+        if (counter == null) {
+            if (counts.size() >= properties.getMaxTrackedIds()) {
+                return;
+            }
+            counter = counts.computeIfAbsent(id, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    public List<Long> hottestIds(int limit) {
+        return window.entrySet().stream()
+                .sorted(Map.Entry.<Long, LongAdder>comparingByValue(
+                        (a, b) -> Long.compare(b.sum(), a.sum())))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Writes the hottest ids of the current window and starts a new one. An idle
+     * window leaves the previous snapshot in place.
+     */
+    @Scheduled(fixedDelayString = "${eventmanager.cache.warmup.snapshot-interval:PT1M}")
+    @PreDestroy
+    public void writeSnapshot() {
+        Path file = snapshotPath();
+        List<Long> ids = hottestIds(properties.getHotIds());
+        if (file == null || ids.isEmpty()) {
+            return;
+        }
+        window = new ConcurrentHashMap<>();
+        try {
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(tmp, ids.stream().map(String::valueOf).toList());
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write hot event snapshot to {}: {}", file, e.getMessage());
+        }
+    }
+
+    public List<Long> readSnapshot() {
+        Path file = snapshotPath();
+        if (file == null || !Files.isReadable(file)) {
+            return Collections.emptyList();
+        }
+        try {
+            return Files.readAllLines(file).stream()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty())
+                    .map(Long::valueOf)
+                    .limit(properties.getHotIds())
+                    .toList();
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Ignoring unreadable hot event snapshot {}: {}", file, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private Path snapshotPath() {
+        String file = properties.getSnapshotFile();
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+}
@@ -0,0 +1,52 @@
+package com.technology309.eventmanager.service;
+
+import com.technology309.eventmanager.model.Event;
+import com.technology309.eventmanager.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills {@code events.location_key} for rows written before the column existed, or
+ * by instances still running an older version during a rolling upgrade. Runs before
+ * the instance is marked ready and then alongside the schedule index refresh; once
+ * every row has a key each run is a single indexed lookup that finds nothing.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LocationKeyBackfill implements ApplicationRunner {
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public LocationKeyBackfill(EventRepository eventRepository, PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+    }
+
+    @Scheduled(fixedDelayString = "${eventmanager.schedule-index.refresh-interval:PT1M}",
+            initialDelayString = "${eventmanager.schedule-index.refresh-interval:PT1M}")
+    public int backfill() {
+        int total = 0;
+        // one short transaction per location keeps row locks brief
+        for (String location : eventRepository.findLocationsWithoutKey()) {
+            total += transactionTemplate.execute(
+                    status -> eventRepository.setLocationKey(location, Event.locationKey(location)));
+        }
+        if (total > 0) {
+            log.info("Set the location key of {} events", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,24 @@
+package com.technology309.eventmanager.service;
+
+import com.technology309.eventmanager.dto.GeoPoint;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Offline geocoder for local development and load tests: maps each location name
+ * to stable pseudo-random coordinates derived from its hash.
+ */
+public class StubGeocoder implements Geocoder {
+
+    @Override
+    public Optional<GeoPoint> geocode(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        long hash = location.trim().toLowerCase(Locale.ROOT).hashCode() * 0x9E3779B97F4A7C15L;
+        double latitude = ((hash >>> 32) % 170_000) / 1_000.0 - 85.0;
+        double longitude = ((hash & 0xFFFFFFFFL) % 360_000) / 1_000.0 - 180.0;
+        return Optional.of(new GeoPoint(latitude, longitude));
+    }
+}
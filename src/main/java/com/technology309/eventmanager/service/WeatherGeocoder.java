@@ -0,0 +1,16 @@
+package com.technology309.eventmanager.service;
+
+import com.technology309.eventmanager.dto.GeoPoint;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class WeatherGeocoder implements Geocoder {
+    private final WeatherService weatherService;
+
+    @Override
+    public Optional<GeoPoint> geocode(String location) {
+        return weatherService.getCoordinates(location);
+    }
+}
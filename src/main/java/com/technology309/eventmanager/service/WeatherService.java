@@ -1,15 +1,27 @@
 package com.technology309.eventmanager.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.technology309.eventmanager.dto.GeoPoint;
 import com.technology309.eventmanager.dto.WeatherResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class WeatherService {
     private final RestTemplate restTemplate;
+
+    // Lets weather text and coordinates for the same write share one provider call
+    private final Cache<String, WeatherResponse> responses = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
     
     @Value("${WEATHER_API_KEY}")
     private String apiKey;
@@ -19,8 +31,7 @@ public class WeatherService {
 
     public String getWeatherData(String location) {
         try {
-            String url = String.format("%s?q=%s&appid=%s&units=metric", baseUrl, location, apiKey);
-            WeatherResponse response = restTemplate.getForObject(url, WeatherResponse.class);
+            WeatherResponse response = fetch(location);
             
             if (response != null && response.getMain() != null && response.getWeather() != null && response.getWeather().length > 0) {
                 return String.format("Temperature: %.1f°C, Feels like: %.1f°C, Humidity: %d%%, Wind: %.1f m/s, Conditions: %s",
@@ -35,4 +46,23 @@ public class WeatherService {
             return "Error fetching weather data for " + location + ": " + e.getMessage();
         }
     }
-} 
\ No newline at end of file
+
+    public Optional<GeoPoint> getCoordinates(String location) {
+        try {
+            WeatherResponse response = fetch(location);
+            if (response != null && response.getCoord() != null) {
+                return Optional.of(new GeoPoint(response.getCoord().getLat(), response.getCoord().getLon()));
+            }
+        } catch (Exception e) {
+            // coordinates are optional; the event is stored without them
+        }
+        return Optional.empty();
+    }
+
+    private WeatherResponse fetch(String location) {
+        return responses.get(location, key -> {
+            String url = String.format("%s?q=%s&appid=%s&units=metric", baseUrl, key, apiKey);
+            return restTemplate.getForObject(url, WeatherResponse.class);
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package com.technology309.eventmanager.benchmark;
+
+import com.technology309.eventmanager.dto.EventSlot;
+import com.technology309.eventmanager.index.EventScheduleIndex;
+import com.technology309.eventmanager.repository.EventRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures conflict-check latency against a busy venue: 20,000 events over five
+ * years at one location, a tenth of them multi-week, among 100,000 events overall.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+public class ConflictBenchmarkTest {
+    private static final int LOCATIONS = 50;
+    private static final int EVENTS_PER_LOCATION = 2_000;
+    private static final int BUSY_VENUE_EVENTS = 20_000;
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 200_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int MINUTES = 5 * 365 * 24 * 60;
+
+    @Test
+    void conflictCheckLatency() {
+        Random random = new Random(7);
+        List<EventSlot> slots = new ArrayList<>();
+        long id = 1;
+        for (int i = 0; i < BUSY_VENUE_EVENTS; i++) {
+            slots.add(randomSlot(random, id++, "Convention Center"));
+        }
+        for (int location = 0; location < LOCATIONS; location++) {
+            for (int i = 0; i < EVENTS_PER_LOCATION; i++) {
+                slots.add(randomSlot(random, id++, "Venue " + location));
+            }
+        }
+        EventRepository eventRepository = mock(EventRepository.class);
+        when(eventRepository.findAllSlots()).thenReturn(slots);
+        EventScheduleIndex index = new EventScheduleIndex(eventRepository);
+        index.rebuild();
+
+        long hits = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            hits += query(index, random);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            hits += query(index, random);
+        }
+        double nanosPerQuery = (double) (System.nanoTime() - start) / MEASURED_ITERATIONS;
+
+        System.out.printf("Conflict check, %d events at the venue: %8.0f ns/query, %.1f conflicts/query%n",
+                BUSY_VENUE_EVENTS, nanosPerQuery, (double) hits / (WARMUP_ITERATIONS + MEASURED_ITERATIONS));
+        assertTrue(nanosPerQuery < 1_000_000);
+    }
+
+    private static int query(EventScheduleIndex index, Random random) {
+        LocalDateTime from = BASE.plusMinutes(random.nextInt(MINUTES));
+        return index.overlapping("Convention Center", from, from.plusHours(4), null).size();
+    }
+
+    private static EventSlot randomSlot(Random random, long id, String location) {
+        LocalDateTime start = BASE.plusMinutes(random.nextInt(MINUTES));
+        int minutes = random.nextInt(10) == 0 ? 7 * 24 * 60 + random.nextInt(21 * 24 * 60) : 60 + random.nextInt(8 * 60);
+        return new EventSlot(id, "Event " + id, location, start, start.plusMinutes(minutes));
+    }
+}
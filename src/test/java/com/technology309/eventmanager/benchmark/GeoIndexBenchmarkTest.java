@@ -0,0 +1,83 @@
+package com.technology309.eventmanager.benchmark;
+
+import com.technology309.eventmanager.index.EventGeoIndex;
+import com.technology309.eventmanager.repository.EventRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures radius-query latency of the geo index for a nearly empty index (where
+ * cost is dominated by the cells a query touches, worst near the poles) and for
+ * 500,000 events spread over the continental US. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+public class GeoIndexBenchmarkTest {
+    private static final int DENSE_EVENTS = 500_000;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    @Test
+    void sparseIndex() {
+        EventGeoIndex index = index(List.<Object[]>of(new Object[]{1L, 40.7128, -74.0060}));
+
+        print("1 event, 100 km at latitude 0   ", measure(index, new Random(1), 0, 0, 0, 0, 100));
+        print("1 event, 100 km at latitude 89.5", measure(index, new Random(1), 89.5, 89.5, 0, 0, 100));
+        print("1 event, 10 km at latitude 40   ", measure(index, new Random(1), 40, 40, -74, -74, 10));
+    }
+
+    @Test
+    void denseIndex() {
+        Random random = new Random(7);
+        List<Object[]> coordinates = new ArrayList<>(DENSE_EVENTS);
+        for (long id = 1; id <= DENSE_EVENTS; id++) {
+            coordinates.add(new Object[]{id, 25 + random.nextDouble() * 24, -125 + random.nextDouble() * 58});
+        }
+        EventGeoIndex index = index(coordinates);
+
+        print("500k events, 1 km  ", measure(index, random, 25, 49, -125, -67, 1));
+        print("500k events, 10 km ", measure(index, random, 25, 49, -125, -67, 10));
+        print("500k events, 100 km", measure(index, random, 25, 49, -125, -67, 100));
+    }
+
+    private static EventGeoIndex index(List<Object[]> coordinates) {
+        EventRepository eventRepository = mock(EventRepository.class);
+        when(eventRepository.findAllCoordinates()).thenReturn(coordinates);
+        EventGeoIndex index = new EventGeoIndex(eventRepository);
+        index.rebuild();
+        return index;
+    }
+
+    private static double measure(EventGeoIndex index, Random random, double minLat, double maxLat,
+                                  double minLon, double maxLon, double radiusKm) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += query(index, random, minLat, maxLat, minLon, maxLon, radiusKm);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += query(index, random, minLat, maxLat, minLon, maxLon, radiusKm);
+        }
+        long elapsed = System.nanoTime() - start;
+        assertTrue(sink >= 0);
+        return (double) elapsed / MEASURED_ITERATIONS / 1_000;
+    }
+
+    private static int query(EventGeoIndex index, Random random, double minLat, double maxLat,
+                             double minLon, double maxLon, double radiusKm) {
+        double latitude = minLat + random.nextDouble() * (maxLat - minLat);
+        double longitude = minLon + random.nextDouble() * (maxLon - minLon);
+        return index.nearby(latitude, longitude, radiusKm, 20).size();
+    }
+
+    private static void print(String label, double micros) {
+        System.out.printf("%s: %10.1f us/query%n", label, micros);
+    }
+}
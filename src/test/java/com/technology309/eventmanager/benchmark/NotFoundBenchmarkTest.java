@@ -0,0 +1,122 @@
+package com.technology309.eventmanager.benchmark;
+
+import com.technology309.eventmanager.index.EventIdIndex;
+import com.technology309.eventmanager.repository.EventRepository;
+import com.technology309.eventmanager.service.EventService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Measures 404 throughput for nonexistent event ids: the previous database lookup
+ * plus a stack-trace-carrying exception, against the id index path. Run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "eventmanager.admission.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class NotFoundBenchmarkTest {
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+    private static final long MISSING_ID_BASE = 1_000_000L;
+    private static final long SETTLED_ID = 2_000_000L;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventIdIndex eventIdIndex;
+
+    @BeforeEach
+    void setUp() {
+        // an old event above the probed ids, so they fall inside the index's settled range
+        jdbcTemplate.update("INSERT INTO events (id, title, description, location, start_date, end_date, created_at) "
+                        + "VALUES (?, 'Old Event', 'Old Event', 'Nowhere', ?, ?, ?)",
+                SETTLED_ID, LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().minusDays(3));
+        eventIdIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM events WHERE id = ?", SETTLED_ID);
+        eventIdIndex.rebuild();
+    }
+
+    @Test
+    void notFoundThroughput() throws Exception {
+        double databasePath = opsPerSecond(id -> {
+            try {
+                eventRepository.findById(id)
+                        .orElseThrow(() -> new EntityNotFoundException("Event not found with id: " + id));
+            } catch (EntityNotFoundException e) {
+                return;
+            }
+            throw new AssertionError("expected not found");
+        });
+        double proxiedIndexPath = opsPerSecond(id -> {
+            try {
+                eventService.getEventById(id);
+            } catch (EntityNotFoundException e) {
+                return;
+            }
+            throw new AssertionError("expected not found");
+        });
+        double indexPath = opsPerSecond(id -> {
+            try {
+                eventService.requireIndexed(id);
+                eventService.getEventById(id);
+            } catch (EntityNotFoundException e) {
+                return;
+            }
+            throw new AssertionError("expected not found");
+        });
+        double http = opsPerSecond(id -> {
+            try {
+                assertEquals(404, mockMvc.perform(get("/api/events/" + id)).andReturn().getResponse().getStatus());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        System.out.printf("findById + EntityNotFoundException : %,10.0f lookups/s%n", databasePath);
+        System.out.printf("Id index inside the cache proxy    : %,10.0f lookups/s%n", proxiedIndexPath);
+        System.out.printf("Id index ahead of the cache proxy  : %,10.0f lookups/s%n", indexPath);
+        System.out.printf("GET /api/events/{id} -> 404        : %,10.0f requests/s%n", http);
+    }
+
+    private static double opsPerSecond(LongConsumer lookup) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            lookup.accept(MISSING_ID_BASE + i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            lookup.accept(MISSING_ID_BASE + i);
+        }
+        return MEASURED_ITERATIONS / ((System.nanoTime() - start) / 1e9);
+    }
+}
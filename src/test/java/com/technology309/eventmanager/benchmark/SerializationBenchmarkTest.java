@@ -0,0 +1,138 @@
+package com.technology309.eventmanager.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.technology309.eventmanager.dto.PageResponse;
+import com.technology309.eventmanager.model.Event;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the two serialization changes independently: the response shape
+ * ({@code PageImpl} vs {@link PageResponse}) and the property access strategy
+ * (reflection vs Blackbird). Runs JMH in forked JVMs; run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+public class SerializationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Test
+    void pageSize() throws IOException {
+        Page<Event> page = samplePage();
+        byte[] pageImpl = mapper(false).writeValueAsBytes(page);
+        byte[] pageResponse = mapper(false).writeValueAsBytes(PageResponse.from(page));
+
+        System.out.printf("PageImpl    : %6d bytes, %6d gzipped%n", pageImpl.length, gzip(pageImpl));
+        System.out.printf("PageResponse: %6d bytes, %6d gzipped%n", pageResponse.length, gzip(pageResponse));
+
+        assertTrue(pageResponse.length < pageImpl.length);
+    }
+
+    @Test
+    void pageSerialization() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(SerializationBenchmarkTest.class.getName() + ".serialize")
+                .forks(3)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+        assertTrue(!new Runner(options).run().isEmpty());
+    }
+
+    @State(Scope.Benchmark)
+    public static class Payload {
+        @Param({"PageImpl", "PageResponse"})
+        public String shape;
+
+        @Param({"false", "true"})
+        public boolean blackbird;
+
+        ObjectMapper mapper;
+        Object value;
+
+        @Setup
+        public void setUp() {
+            mapper = mapper(blackbird);
+            Page<Event> page = samplePage();
+            value = "PageResponse".equals(shape) ? PageResponse.from(page) : page;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] serialize(Payload payload) throws JsonProcessingException {
+        return payload.mapper.writeValueAsBytes(payload.value);
+    }
+
+    private static ObjectMapper mapper(boolean blackbird) {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (blackbird) {
+            builder.addModule(new BlackbirdModule());
+        }
+        return builder.build();
+    }
+
+    private static int gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+
+    private static Page<Event> samplePage() {
+        LocalDateTime base = LocalDateTime.of(2024, 4, 15, 9, 0);
+        List<Event> events = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Event event = new Event();
+            event.setId((long) i + 1);
+            event.setTitle("Spring Conference " + i);
+            event.setDescription("Annual Spring Framework Conference, track " + i);
+            event.setLocation("New York");
+            event.setStartDate(base.plusDays(i));
+            event.setEndDate(base.plusDays(i + 2));
+            event.setWeatherData("Temperature: 18.5°C, Feels like: 17.9°C, Humidity: 60%, Wind: 3.1 m/s, Conditions: clear sky");
+            event.setCreatedAt(base.minusDays(30));
+            event.setUpdatedAt(base.minusDays(30));
+            events.add(event);
+        }
+        return new PageImpl<>(events, PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "startDate")), 1_000);
+    }
+}
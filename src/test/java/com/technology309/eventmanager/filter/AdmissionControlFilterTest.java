@@ -0,0 +1,137 @@
+package com.technology309.eventmanager.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.technology309.eventmanager.config.AdmissionControlProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdmissionControlFilterTest {
+
+    private AdmissionControlProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdmissionControlProperties();
+        properties.setRead(new AdmissionControlProperties.Limit(2, 1));
+        properties.setSearch(new AdmissionControlProperties.Limit(1, 1));
+        properties.setWrite(new AdmissionControlProperties.Limit(1, 1));
+    }
+
+    private AdmissionControlFilter filter() {
+        return new AdmissionControlFilter(properties, new ObjectMapper().findAndRegisterModules(),
+                new StaticListableBeanFactory().getBeanProvider(DataSource.class));
+    }
+
+    private MockHttpServletResponse perform(AdmissionControlFilter filter, MockHttpServletRequest request,
+                                            FilterChain chain) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse perform(AdmissionControlFilter filter, MockHttpServletRequest request)
+            throws ServletException, IOException {
+        return perform(filter, request, new MockFilterChain());
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    @Test
+    void readRequests_ShouldBeLimitedPerClient() throws Exception {
+        AdmissionControlFilter filter = filter();
+
+        assertEquals(200, perform(filter, request("GET", "/api/events", "10.0.0.1")).getStatus());
+        assertEquals(200, perform(filter, request("GET", "/api/events/1", "10.0.0.1")).getStatus());
+
+        MockHttpServletResponse rejected = perform(filter, request("GET", "/api/events", "10.0.0.1"));
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("Rate limit exceeded"));
+
+        assertEquals(200, perform(filter, request("GET", "/api/events", "10.0.0.2")).getStatus());
+    }
+
+    @Test
+    void searchAndWriteRoutes_ShouldHaveSeparateBuckets() throws Exception {
+        AdmissionControlFilter filter = filter();
+
+        assertEquals(200, perform(filter, request("GET", "/api/events/search", "10.0.0.1")).getStatus());
+        assertEquals(429, perform(filter, request("GET", "/api/events/search", "10.0.0.1")).getStatus());
+
+        assertEquals(200, perform(filter, request("POST", "/api/events", "10.0.0.1")).getStatus());
+        assertEquals(429, perform(filter, request("DELETE", "/api/events/1", "10.0.0.1")).getStatus());
+
+        assertEquals(200, perform(filter, request("GET", "/api/events", "10.0.0.1")).getStatus());
+    }
+
+    @Test
+    void partnerApiKey_ShouldIdentifyClientInsteadOfIp() throws Exception {
+        properties.setPartnerKeys(Set.of("partner-a", "partner-b"));
+        AdmissionControlFilter filter = filter();
+
+        MockHttpServletRequest partnerA = request("GET", "/api/events/search", "10.0.0.1");
+        partnerA.addHeader("X-API-Key", "partner-a");
+        MockHttpServletRequest partnerB = request("GET", "/api/events/search", "10.0.0.1");
+        partnerB.addHeader("X-API-Key", "partner-b");
+
+        assertEquals(200, perform(filter, partnerA).getStatus());
+        assertEquals(200, perform(filter, partnerB).getStatus());
+        assertEquals(429, perform(filter, partnerA).getStatus());
+        assertEquals(200, perform(filter, request("GET", "/api/events/search", "10.0.0.1")).getStatus());
+    }
+
+    @Test
+    void unknownApiKeys_ShouldShareTheIpBucket() throws Exception {
+        properties.setPartnerKeys(Set.of("partner-a"));
+        AdmissionControlFilter filter = filter();
+
+        MockHttpServletRequest first = request("GET", "/api/events/search", "10.0.0.1");
+        first.addHeader("X-API-Key", "random-1");
+        MockHttpServletRequest second = request("GET", "/api/events/search", "10.0.0.1");
+        second.addHeader("X-API-Key", "random-2");
+
+        assertEquals(200, perform(filter, first).getStatus());
+        assertEquals(429, perform(filter, second).getStatus());
+        assertEquals(429, perform(filter, request("GET", "/api/events/search", "10.0.0.1")).getStatus());
+    }
+
+    @Test
+    void concurrentRequestsAboveLimit_ShouldBeShed() throws Exception {
+        properties.setMaxConcurrentRequests(1);
+        AdmissionControlFilter filter = filter();
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+
+        MockHttpServletResponse outer = perform(filter, request("GET", "/api/events", "10.0.0.1"),
+                (req, res) -> nested[0] = perform(filter, request("GET", "/api/events", "10.0.0.2")));
+
+        assertEquals(200, outer.getStatus());
+        assertEquals(503, nested[0].getStatus());
+        assertEquals("1", nested[0].getHeader("Retry-After"));
+    }
+
+    @Test
+    void nonApiRequests_ShouldNotBeLimited() throws Exception {
+        properties.setRead(new AdmissionControlProperties.Limit(1, 1));
+        AdmissionControlFilter filter = filter();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, perform(filter, request("GET", "/error", "10.0.0.1")).getStatus());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.technology309.eventmanager.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadShedderTest {
+
+    private static final long THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private static int admitted(LoadShedder shedder, int attempts) {
+        int admitted = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (shedder.tryAcquire()) {
+                admitted++;
+            }
+        }
+        return admitted;
+    }
+
+    @Test
+    void healthyService_ShouldAdmitUpToTheLimit() {
+        LoadShedder shedder = new LoadShedder(4, THRESHOLD_NANOS, 5, () -> 0);
+
+        assertFalse(shedder.isOverloaded());
+        assertEquals(4, admitted(shedder, 10));
+    }
+
+    @Test
+    void slowResponses_ShouldHalveTheLimitUntilLatencyRecovers() {
+        LoadShedder shedder = new LoadShedder(4, THRESHOLD_NANOS, 5, () -> 0);
+
+        assertTrue(shedder.tryAcquire());
+        shedder.release(TimeUnit.SECONDS.toNanos(2));
+        assertTrue(shedder.isOverloaded());
+        assertEquals(2, admitted(shedder, 10));
+        shedder.release(0);
+        shedder.release(0);
+
+        while (shedder.isOverloaded()) {
+            assertTrue(shedder.tryAcquire());
+            shedder.release(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertEquals(4, admitted(shedder, 10));
+    }
+
+    @Test
+    void connectionPoolWaiters_ShouldHalveTheLimit() {
+        AtomicInteger poolWaiters = new AtomicInteger(6);
+        LoadShedder shedder = new LoadShedder(4, THRESHOLD_NANOS, 5, poolWaiters::get);
+
+        assertTrue(shedder.isOverloaded());
+        assertEquals(2, admitted(shedder, 10));
+
+        poolWaiters.set(0);
+        assertFalse(shedder.isOverloaded());
+        assertEquals(2, admitted(shedder, 10));
+    }
+}
@@ -0,0 +1,172 @@
+package com.technology309.eventmanager.index;
+
+import com.technology309.eventmanager.model.Event;
+import com.technology309.eventmanager.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EventGeoIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventGeoIndex eventGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        eventGeoIndex = new EventGeoIndex(eventRepository);
+    }
+
+    private static Event event(long id, Double latitude, Double longitude) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Event " + id);
+        event.setLatitude(latitude);
+        event.setLongitude(longitude);
+        return event;
+    }
+
+    @Test
+    void rebuild_ShouldReturnEventsWithinRadiusNearestFirst() {
+        when(eventRepository.findAllCoordinates()).thenReturn(List.of(
+                new Object[]{1L, 40.7128, -74.0060},   // Lower Manhattan
+                new Object[]{2L, 40.7580, -73.9855},   // Times Square, ~5 km
+                new Object[]{3L, 40.6892, -74.0445},   // Liberty Island, ~4 km
+                new Object[]{4L, 42.3601, -71.0589})); // Boston, ~300 km
+
+        eventGeoIndex.rebuild();
+
+        assertEquals(List.of(1L, 3L, 2L), eventGeoIndex.nearby(40.7128, -74.0060, 10, 10));
+        assertEquals(List.of(1L, 3L), eventGeoIndex.nearby(40.7128, -74.0060, 4.5, 10));
+        assertEquals(List.of(1L), eventGeoIndex.nearby(40.7128, -74.0060, 10, 1));
+        assertTrue(eventGeoIndex.nearby(0, 0, 100, 10).isEmpty());
+    }
+
+    @Test
+    void nearby_ShouldSearchAcrossTheAntimeridian() {
+        eventGeoIndex.onSaved(event(1L, -16.5, 179.99));
+        eventGeoIndex.onSaved(event(2L, -16.5, -179.99));
+
+        assertEquals(List.of(2L, 1L), eventGeoIndex.nearby(-16.5, -179.995, 5, 10));
+    }
+
+    @Test
+    void writes_ShouldMoveOrRemoveEntries() {
+        eventGeoIndex.onSaved(event(1L, 51.5074, -0.1278));
+        eventGeoIndex.onSaved(event(2L, 51.5155, -0.0922));
+
+        eventGeoIndex.onSaved(event(1L, 48.8566, 2.3522));
+        assertEquals(List.of(2L), eventGeoIndex.nearby(51.5074, -0.1278, 10, 10));
+        assertEquals(List.of(1L), eventGeoIndex.nearby(48.8566, 2.3522, 10, 10));
+
+        eventGeoIndex.onSaved(event(2L, null, null));
+        eventGeoIndex.onRemoved(1L);
+        assertTrue(eventGeoIndex.nearby(51.5074, -0.1278, 10, 10).isEmpty());
+        assertTrue(eventGeoIndex.nearby(48.8566, 2.3522, 10, 10).isEmpty());
+    }
+
+    @Test
+    void nearby_ShouldSearchAcrossThePole() {
+        eventGeoIndex.onSaved(event(1L, 89.6, 0.0));
+        eventGeoIndex.onSaved(event(2L, 89.6, 180.0));   // ~89 km away, over the pole
+        eventGeoIndex.onSaved(event(3L, 88.0, 90.0));    // ~222 km away
+
+        assertEquals(List.of(1L, 2L), eventGeoIndex.nearby(89.6, 0.0, 100, 10));
+    }
+
+    @Test
+    void nearby_ShouldMatchAFullScanOnEveryGridLevel() {
+        Random random = new Random(42);
+        List<Object[]> coordinates = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            // dense enough around New York to drive queries onto coarser levels
+            coordinates.add(id % 2 == 0
+                    ? new Object[]{id, 40 + random.nextDouble(), -74 + random.nextDouble()}
+                    : new Object[]{id, random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180});
+        }
+        when(eventRepository.findAllCoordinates()).thenReturn(coordinates);
+        eventGeoIndex.rebuild();
+
+        for (int query = 0; query < 200; query++) {
+            double latitude = query % 2 == 0 ? 40 + random.nextDouble() : random.nextDouble() * 180 - 90;
+            double longitude = query % 2 == 0 ? -74 + random.nextDouble() : random.nextDouble() * 360 - 180;
+            double radiusKm = 0.5 + random.nextDouble() * (EventGeoIndex.MAX_RADIUS_KM - 0.5);
+            assertEquals(fullScan(coordinates, latitude, longitude, radiusKm),
+                    eventGeoIndex.nearby(latitude, longitude, radiusKm, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void rebuild_ShouldKeepWritesCommittedWhileLoading() {
+        when(eventRepository.findAllCoordinates()).thenAnswer(invocation -> {
+            // committed while the query runs; the snapshot predates both
+            eventGeoIndex.onSaved(event(2L, 40.7580, -73.9855));
+            eventGeoIndex.onRemoved(1L);
+            return List.<Object[]>of(new Object[]{1L, 40.7128, -74.0060});
+        });
+
+        eventGeoIndex.rebuild();
+
+        assertEquals(List.of(2L), eventGeoIndex.nearby(40.7128, -74.0060, 10, 10));
+    }
+
+    @Test
+    void rebuild_ShouldKeepServingThePreviousSnapshotWhileLoading() {
+        eventGeoIndex.onSaved(event(1L, 40.7128, -74.0060));
+        when(eventRepository.findAllCoordinates()).thenAnswer(invocation -> {
+            assertEquals(List.of(1L), eventGeoIndex.nearby(40.7128, -74.0060, 10, 10));
+            return List.<Object[]>of(new Object[]{1L, 40.7128, -74.0060}, new Object[]{2L, 40.7580, -73.9855});
+        });
+
+        eventGeoIndex.rebuild();
+
+        assertEquals(List.of(1L, 2L), eventGeoIndex.nearby(40.7128, -74.0060, 10, 10));
+    }
+
+    @Test
+    void refresh_ShouldLoadChangedRowsAndDropDeletedOnes() {
+        when(eventRepository.findAllCoordinates()).thenReturn(List.of(
+                new Object[]{1L, 40.7128, -74.0060},
+                new Object[]{2L, 40.7580, -73.9855}));
+        eventGeoIndex.rebuild();
+
+        // elsewhere: 1 deleted, 2 moved to Liberty Island, 3 created in Times Square
+        when(eventRepository.findIdsWithCoordinates()).thenReturn(List.of(2L, 3L));
+        when(eventRepository.findCoordinatesUpdatedSince(any())).thenReturn(List.of(
+                new Object[]{2L, 40.6892, -74.0445},
+                new Object[]{3L, 40.7580, -73.9855}));
+        eventGeoIndex.refresh();
+
+        assertEquals(List.of(2L, 3L), eventGeoIndex.nearby(40.7128, -74.0060, 10, 10));
+        assertEquals(List.of(3L), eventGeoIndex.nearby(40.7580, -73.9855, 1, 10));
+    }
+
+    private static List<Long> fullScan(List<Object[]> coordinates, double latitude, double longitude, double radiusKm) {
+        return coordinates.stream()
+                .filter(row -> distanceKm(latitude, longitude, (Double) row[1], (Double) row[2]) <= radiusKm)
+                .sorted(Comparator.comparingDouble(row -> distanceKm(latitude, longitude, (Double) row[1], (Double) row[2])))
+                .map(row -> (Long) row[0])
+                .toList();
+    }
+
+    private static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * 6_371.0 * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
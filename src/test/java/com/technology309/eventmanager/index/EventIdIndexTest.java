@@ -0,0 +1,133 @@
+package com.technology309.eventmanager.index;
+
+import com.technology309.eventmanager.model.Event;
+import com.technology309.eventmanager.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EventIdIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventIdIndex eventIdIndex;
+
+    @BeforeEach
+    void setUp() {
+        eventIdIndex = new EventIdIndex(eventRepository);
+    }
+
+    private static Event event(long id) {
+        Event event = new Event();
+        event.setId(id);
+        return event;
+    }
+
+    @Test
+    void beforeRebuild_ShouldReportEveryIdAsPossiblyPresent() {
+        assertTrue(eventIdIndex.mightContain(1L));
+        assertTrue(eventIdIndex.mightContain(999_999L));
+    }
+
+    @Test
+    void rebuild_ShouldContainExactlyExistingIds() {
+        when(eventRepository.findMaxIdCreatedBefore(any())).thenReturn(2_000_000L);
+        when(eventRepository.findAllIds()).thenReturn(List.of(1L, 63L, 64L, 1_000L));
+
+        eventIdIndex.rebuild();
+
+        assertTrue(eventIdIndex.mightContain(1L));
+        assertTrue(eventIdIndex.mightContain(63L));
+        assertTrue(eventIdIndex.mightContain(64L));
+        assertTrue(eventIdIndex.mightContain(1_000L));
+        assertFalse(eventIdIndex.mightContain(2L));
+        assertFalse(eventIdIndex.mightContain(65L));
+        assertFalse(eventIdIndex.mightContain(1_000_000L));
+        assertFalse(eventIdIndex.mightContain(-1L));
+        assertFalse(eventIdIndex.mightContain(null));
+    }
+
+    @Test
+    void writes_ShouldKeepIndexInSync() {
+        when(eventRepository.findMaxIdCreatedBefore(any())).thenReturn(100_000L);
+        when(eventRepository.findAllIds()).thenReturn(List.of(5L));
+        eventIdIndex.rebuild();
+
+        eventIdIndex.onSaved(event(70_000L));
+        eventIdIndex.onRemoved(5L);
+        eventIdIndex.onRemoved(123_456_789L);
+
+        assertTrue(eventIdIndex.mightContain(70_000L));
+        assertFalse(eventIdIndex.mightContain(5L));
+    }
+
+    @Test
+    void idsAboveBitsetRange_ShouldBeLeftToTheDatabase() {
+        long huge = 137_438_953_472L;
+        when(eventRepository.findMaxIdCreatedBefore(any())).thenReturn(huge);
+        when(eventRepository.findAllIds()).thenReturn(List.of(1L, huge, Long.MAX_VALUE));
+
+        eventIdIndex.rebuild();
+        eventIdIndex.onSaved(event(EventIdIndex.MAX_INDEXED_ID + 1));
+        eventIdIndex.onRemoved(huge);
+
+        assertTrue(eventIdIndex.mightContain(1L));
+        assertTrue(eventIdIndex.mightContain(huge));
+        assertTrue(eventIdIndex.mightContain(Long.MAX_VALUE));
+        assertTrue(eventIdIndex.mightContain(EventIdIndex.MAX_INDEXED_ID + 1));
+        assertFalse(eventIdIndex.mightContain(EventIdIndex.MAX_INDEXED_ID));
+        assertFalse(eventIdIndex.mightContain(2L));
+    }
+
+    @Test
+    void idsAboveSettledId_ShouldBeLeftToTheDatabaseUntilRefreshed() {
+        when(eventRepository.findMaxIdCreatedBefore(any())).thenReturn(2L);
+        when(eventRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        eventIdIndex.rebuild();
+
+        // ids 3 and 5 were inserted by another instance, 6 only just now
+        assertTrue(eventIdIndex.mightContain(3L));
+        assertTrue(eventIdIndex.mightContain(4L));
+
+        LocalDateTime now = LocalDateTime.now();
+        when(eventRepository.findIdsCreatedSince(any())).thenReturn(List.of(
+                new Object[]{3L, now.minusMinutes(5)},
+                new Object[]{5L, now.minusMinutes(3)},
+                new Object[]{6L, now.minusSeconds(10)}));
+        eventIdIndex.refresh();
+
+        assertTrue(eventIdIndex.mightContain(3L));
+        assertFalse(eventIdIndex.mightContain(4L));
+        assertTrue(eventIdIndex.mightContain(5L));
+        assertTrue(eventIdIndex.mightContain(6L));
+        assertTrue(eventIdIndex.mightContain(7L));
+    }
+
+    @Test
+    void refresh_ShouldPickUpIdsCommittedAfterAHigherIdSettled() {
+        when(eventRepository.findMaxIdCreatedBefore(any())).thenReturn(10L);
+        when(eventRepository.findAllIds()).thenReturn(List.of(1L, 10L));
+        eventIdIndex.rebuild();
+        // id 7 got its id first but waited on a lock while 10 committed
+        assertFalse(eventIdIndex.mightContain(7L));
+
+        when(eventRepository.findIdsCreatedSince(any())).thenReturn(List.<Object[]>of(
+                new Object[]{7L, LocalDateTime.now().minusMinutes(4)},
+                new Object[]{10L, LocalDateTime.now().minusMinutes(4)}));
+        eventIdIndex.refresh();
+
+        assertTrue(eventIdIndex.mightContain(7L));
+        assertFalse(eventIdIndex.mightContain(8L));
+    }
+}
@@ -0,0 +1,174 @@
+package com.technology309.eventmanager.index;
+
+import com.technology309.eventmanager.dto.EventSlot;
+import com.technology309.eventmanager.model.Event;
+import com.technology309.eventmanager.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EventScheduleIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventScheduleIndex eventScheduleIndex;
+
+    @BeforeEach
+    void setUp() {
+        eventScheduleIndex = new EventScheduleIndex(eventRepository);
+    }
+
+    private static EventSlot slot(long id, String location, int startHour, int endHour) {
+        return new EventSlot(id, "Event " + id, location, BASE.plusHours(startHour), BASE.plusHours(endHour));
+    }
+
+    private static Event event(long id, String location, int startHour, int endHour) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Event " + id);
+        event.setLocation(location);
+        event.setStartDate(BASE.plusHours(startHour));
+        event.setEndDate(BASE.plusHours(endHour));
+        return event;
+    }
+
+    private List<Long> overlapping(String location, int startHour, int endHour, Long excludeId) {
+        return eventScheduleIndex.overlapping(location, BASE.plusHours(startHour), BASE.plusHours(endHour), excludeId)
+                .stream().map(EventSlot::id).toList();
+    }
+
+    @Test
+    void rebuild_ShouldFindOverlapsAtTheSameLocation() {
+        when(eventRepository.findAllSlots()).thenReturn(List.of(
+                slot(1L, "Main Hall", 0, 48),   // long-running, started before the window
+                slot(2L, "Main Hall", 9, 11),
+                slot(3L, "main hall ", 12, 14),
+                slot(4L, "Main Hall", 14, 16),  // starts when the window ends
+                slot(5L, "Side Room", 10, 12)));
+
+        eventScheduleIndex.rebuild();
+
+        assertEquals(List.of(1L, 2L, 3L), overlapping("Main Hall", 10, 14, null));
+        assertEquals(List.of(1L, 3L), overlapping("MAIN HALL", 11, 14, 2L));
+        assertEquals(List.of(5L), overlapping("Side Room", 8, 11, null));
+        assertTrue(overlapping("Side Room", 12, 13, null).isEmpty());
+        assertTrue(overlapping("Elsewhere", 0, 48, null).isEmpty());
+    }
+
+    @Test
+    void writes_ShouldMoveOrRemoveEntries() {
+        eventScheduleIndex.onSaved(event(1L, "Main Hall", 9, 11));
+        eventScheduleIndex.onSaved(event(2L, "Main Hall", 10, 12));
+
+        eventScheduleIndex.onSaved(event(1L, "Side Room", 9, 11));
+        assertEquals(List.of(2L), overlapping("Main Hall", 0, 24, null));
+        assertEquals(List.of(1L), overlapping("Side Room", 0, 24, null));
+
+        eventScheduleIndex.onRemoved(1L);
+        eventScheduleIndex.onRemoved(2L);
+        assertTrue(overlapping("Main Hall", 0, 24, null).isEmpty());
+        assertTrue(overlapping("Side Room", 0, 24, null).isEmpty());
+    }
+
+    @Test
+    void overlapping_ShouldMatchLinearScan() {
+        Random random = new Random(42);
+        List<EventSlot> slots = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            int start = random.nextInt(1_000);
+            slots.add(slot(id, "Arena", start, start + 1 + random.nextInt(random.nextBoolean() ? 5 : 200)));
+        }
+        when(eventRepository.findAllSlots()).thenReturn(slots);
+        eventScheduleIndex.rebuild();
+
+        for (int i = 0; i < 200; i++) {
+            int from = random.nextInt(1_100);
+            int to = from + 1 + random.nextInt(20);
+            List<Long> expected = slots.stream()
+                    .filter(s -> s.startDate().isBefore(BASE.plusHours(to)) && s.endDate().isAfter(BASE.plusHours(from)))
+                    .sorted((a, b) -> a.startDate().equals(b.startDate())
+                            ? a.id().compareTo(b.id()) : a.startDate().compareTo(b.startDate()))
+                    .map(EventSlot::id)
+                    .toList();
+            assertEquals(expected, overlapping("Arena", from, to, null));
+        }
+    }
+
+    @Test
+    void rebuild_ShouldKeepWritesCommittedWhileLoading() {
+        when(eventRepository.findAllSlots()).thenAnswer(invocation -> {
+            // committed while the query runs; the snapshot predates both
+            eventScheduleIndex.onSaved(event(2L, "Main Hall", 10, 12));
+            eventScheduleIndex.onRemoved(1L);
+            return List.of(slot(1L, "Main Hall", 9, 11));
+        });
+
+        eventScheduleIndex.rebuild();
+
+        assertEquals(List.of(2L), overlapping("Main Hall", 0, 24, null));
+    }
+
+    @Test
+    void rebuild_ShouldKeepServingThePreviousSnapshotWhileLoading() {
+        when(eventRepository.findAllSlots()).thenReturn(List.of(slot(1L, "Main Hall", 9, 11)));
+        eventScheduleIndex.rebuild();
+
+        when(eventRepository.findAllSlots()).thenAnswer(invocation -> {
+            assertEquals(List.of(1L), overlapping("Main Hall", 0, 24, null));
+            return List.of(slot(2L, "Main Hall", 10, 12));
+        });
+        eventScheduleIndex.rebuild();
+
+        assertEquals(List.of(2L), overlapping("Main Hall", 0, 24, null));
+    }
+
+    @Test
+    void refresh_ShouldLoadChangedRowsAndDropDeletedOnes() {
+        when(eventRepository.findAllSlots()).thenReturn(List.of(
+                slot(1L, "Main Hall", 9, 11),
+                slot(2L, "Main Hall", 10, 12),
+                slot(3L, "Side Room", 10, 12)));
+        eventScheduleIndex.rebuild();
+
+        // elsewhere: 1 deleted, 2 moved to the side room, 4 created
+        when(eventRepository.findAllIds()).thenReturn(List.of(2L, 3L, 4L));
+        when(eventRepository.findSlotsUpdatedSince(any())).thenReturn(List.of(
+                slot(2L, "side room", 8, 9),
+                slot(4L, "Main Hall ", 10, 11)));
+        eventScheduleIndex.refresh();
+
+        assertEquals(List.of(4L), overlapping("Main Hall", 0, 24, null));
+        assertEquals(List.of(2L, 3L), overlapping("Side Room", 0, 24, null));
+    }
+
+    @Test
+    void refresh_ShouldKeepWritesCommittedWhileLoading() {
+        when(eventRepository.findAllSlots()).thenReturn(List.of(slot(1L, "Main Hall", 9, 11)));
+        eventScheduleIndex.rebuild();
+
+        when(eventRepository.findAllIds()).thenReturn(List.of(1L));
+        when(eventRepository.findSlotsUpdatedSince(any())).thenAnswer(invocation -> {
+            // committed on this instance after the id scan
+            eventScheduleIndex.onSaved(event(2L, "Main Hall", 10, 12));
+            return List.of(slot(1L, "Main Hall", 9, 11));
+        });
+        eventScheduleIndex.refresh();
+
+        assertEquals(List.of(1L, 2L), overlapping("Main Hall", 0, 24, null));
+    }
+}
@@ -0,0 +1,147 @@
+package com.technology309.eventmanager.index;
+
+import com.technology309.eventmanager.model.Event;
+import com.technology309.eventmanager.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EventTimeIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventTimeIndex eventTimeIndex;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        eventTimeIndex = new EventTimeIndex(eventRepository);
+        now = LocalDateTime.now();
+    }
+
+    private static Event event(long id, LocalDateTime start, LocalDateTime end) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Event " + id);
+        event.setStartDate(start);
+        event.setEndDate(end);
+        return event;
+    }
+
+    private static List<Long> ids(List<Event> events) {
+        return events.stream().map(Event::getId).toList();
+    }
+
+    @Test
+    void rebuild_ShouldSplitOngoingAndUpcomingEvents() {
+        when(eventRepository.findByEndDateAfter(any())).thenReturn(List.of(
+                event(1L, now.minusHours(2), now.plusHours(1)),
+                event(2L, now.plusDays(2), now.plusDays(3)),
+                event(3L, now.minusDays(1), now.plusDays(1)),
+                event(4L, now.plusHours(1), now.plusHours(2))));
+
+        eventTimeIndex.rebuild();
+
+        assertEquals(List.of(3L, 1L), ids(eventTimeIndex.happeningNow(now, 10)));
+        assertEquals(List.of(4L, 2L), ids(eventTimeIndex.upcoming(now, 10)));
+        assertEquals(List.of(4L), ids(eventTimeIndex.upcoming(now, 1)));
+        assertTrue(eventTimeIndex.upcoming(now, 0).isEmpty());
+    }
+
+    @Test
+    void queries_ShouldDropEventsThatHaveEnded() {
+        eventTimeIndex.onSaved(event(1L, now.minusHours(2), now.plusHours(1)));
+        eventTimeIndex.onSaved(event(2L, now.plusHours(1), now.plusHours(3)));
+
+        LocalDateTime later = now.plusHours(2);
+
+        assertEquals(List.of(2L), ids(eventTimeIndex.happeningNow(later, 10)));
+        assertTrue(eventTimeIndex.upcoming(later, 10).isEmpty());
+    }
+
+    @Test
+    void writes_ShouldMoveOrRemoveEntries() {
+        eventTimeIndex.onSaved(event(1L, now.plusDays(1), now.plusDays(2)));
+        eventTimeIndex.onSaved(event(2L, now.plusDays(3), now.plusDays(4)));
+
+        eventTimeIndex.onSaved(event(1L, now.minusHours(1), now.plusHours(1)));
+        assertEquals(List.of(1L), ids(eventTimeIndex.happeningNow(now, 10)));
+        assertEquals(List.of(2L), ids(eventTimeIndex.upcoming(now, 10)));
+
+        eventTimeIndex.onSaved(event(2L, now.minusDays(2), now.minusDays(1)));
+        eventTimeIndex.onRemoved(1L);
+        assertTrue(eventTimeIndex.happeningNow(now, 10).isEmpty());
+        assertTrue(eventTimeIndex.upcoming(now, 10).isEmpty());
+    }
+
+    @Test
+    void rebuild_ShouldKeepWritesCommittedWhileLoading() {
+        when(eventRepository.findByEndDateAfter(any())).thenAnswer(invocation -> {
+            // committed while the query runs; the snapshot predates both
+            eventTimeIndex.onSaved(event(2L, now.plusHours(1), now.plusHours(2)));
+            eventTimeIndex.onRemoved(1L);
+            return List.of(event(1L, now.plusDays(1), now.plusDays(2)));
+        });
+
+        eventTimeIndex.rebuild();
+
+        assertEquals(List.of(2L), ids(eventTimeIndex.upcoming(now, 10)));
+    }
+
+    @Test
+    void rebuild_ShouldKeepServingThePreviousSnapshotWhileLoading() {
+        eventTimeIndex.onSaved(event(1L, now.plusDays(1), now.plusDays(2)));
+        when(eventRepository.findByEndDateAfter(any())).thenAnswer(invocation -> {
+            assertEquals(List.of(1L), ids(eventTimeIndex.upcoming(now, 10)));
+            return List.of(event(1L, now.plusDays(1), now.plusDays(2)), event(2L, now.plusDays(3), now.plusDays(4)));
+        });
+
+        eventTimeIndex.rebuild();
+
+        assertEquals(List.of(1L, 2L), ids(eventTimeIndex.upcoming(now, 10)));
+    }
+
+    @Test
+    void refresh_ShouldLoadChangedRowsAndDropDeletedOnes() {
+        when(eventRepository.findByEndDateAfter(any())).thenReturn(List.of(
+                event(1L, now.plusDays(1), now.plusDays(2)),
+                event(2L, now.plusDays(3), now.plusDays(4))));
+        eventTimeIndex.rebuild();
+
+        // elsewhere: 1 deleted, 2 moved earlier, 3 created
+        when(eventRepository.findIdsByEndDateAfter(any())).thenReturn(List.of(2L, 3L));
+        when(eventRepository.findByUpdatedAtAfterAndEndDateAfter(any(), any())).thenReturn(List.of(
+                event(2L, now.plusHours(1), now.plusHours(2)),
+                event(3L, now.plusDays(5), now.plusDays(6))));
+        eventTimeIndex.refresh();
+
+        assertEquals(List.of(2L, 3L), ids(eventTimeIndex.upcoming(now, 10)));
+    }
+
+    @Test
+    void refresh_ShouldKeepWritesCommittedWhileLoading() {
+        when(eventRepository.findByEndDateAfter(any())).thenReturn(List.of(event(1L, now.plusDays(1), now.plusDays(2))));
+        eventTimeIndex.rebuild();
+
+        when(eventRepository.findIdsByEndDateAfter(any())).thenReturn(List.of(1L));
+        when(eventRepository.findByUpdatedAtAfterAndEndDateAfter(any(), any())).thenAnswer(invocation -> {
+            // committed on this instance after the id scan
+            eventTimeIndex.onSaved(event(2L, now.plusHours(1), now.plusHours(2)));
+            return List.of(event(1L, now.plusDays(1), now.plusDays(2)));
+        });
+        eventTimeIndex.refresh();
+
+        assertEquals(List.of(2L, 1L), ids(eventTimeIndex.upcoming(now, 10)));
+    }
+}
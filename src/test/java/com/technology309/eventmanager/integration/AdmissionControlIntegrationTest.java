@@ -0,0 +1,40 @@
+package com.technology309.eventmanager.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eventmanager.admission.read.capacity=2",
+        "eventmanager.admission.read.refill-per-second=0.001"
+})
+@ActiveProfiles("test")
+public class AdmissionControlIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private int getUpcoming(String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", forwardedFor);
+        return restTemplate.exchange("/api/events/upcoming", HttpMethod.GET, new HttpEntity<>(headers), String.class)
+                .getStatusCode().value();
+    }
+
+    @Test
+    void clientsBehindATrustedProxy_ShouldGetTheirOwnBuckets() {
+        // the test client connects from loopback, which counts as a trusted proxy
+        assertEquals(200, getUpcoming("203.0.113.7"));
+        assertEquals(200, getUpcoming("203.0.113.7"));
+        assertEquals(429, getUpcoming("203.0.113.7"));
+
+        assertEquals(200, getUpcoming("203.0.113.8"));
+    }
+}
@@ -0,0 +1,141 @@
+package com.technology309.eventmanager.integration;
+
+import com.technology309.eventmanager.config.ArchiveProperties;
+import com.technology309.eventmanager.model.ArchivedEvent;
+import com.technology309.eventmanager.model.Event;
+import com.technology309.eventmanager.repository.ArchivedEventRepository;
+import com.technology309.eventmanager.repository.EventRepository;
+import com.technology309.eventmanager.service.EventArchiveService;
+import com.technology309.eventmanager.service.EventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class EventArchiveIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private EventArchiveService eventArchiveService;
+
+    @Autowired
+    private ArchiveProperties archiveProperties;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private int originalBatchSize;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        archivedEventRepository.deleteAll();
+        originalBatchSize = archiveProperties.getBatchSize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        archiveProperties.setBatchSize(originalBatchSize);
+    }
+
+    private Event saveEvent(String title, LocalDateTime start, LocalDateTime end) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setDescription(title + " description");
+        event.setLocation("Archive Hall");
+        event.setStartDate(start);
+        event.setEndDate(end);
+        return eventRepository.save(event);
+    }
+
+    @Test
+    void archiveEndedEvents_ShouldMoveOnlyEventsPastGracePeriod() {
+        LocalDateTime now = LocalDateTime.now();
+        Event past = saveEvent("Past Event", now.minusDays(10), now.minusDays(9));
+        Event recentlyEnded = saveEvent("Recently Ended", now.minusHours(5), now.minusHours(1));
+        Event upcoming = saveEvent("Upcoming Event", now.plusDays(1), now.plusDays(2));
+
+        assertEquals(1, eventArchiveService.archiveEndedEvents());
+
+        assertFalse(eventRepository.existsById(past.getId()));
+        assertTrue(eventRepository.existsById(recentlyEnded.getId()));
+        assertTrue(eventRepository.existsById(upcoming.getId()));
+
+        ArchivedEvent archived = archivedEventRepository.findById(past.getId()).orElseThrow();
+        assertEquals("Past Event", archived.getTitle());
+        assertEquals("Archive Hall", archived.getLocation());
+        assertNotNull(archived.getArchivedAt());
+    }
+
+    @Test
+    void archiveEndedEvents_ShouldProcessAllBatches() {
+        archiveProperties.setBatchSize(2);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            saveEvent("Past " + i, now.minusDays(20 + i), now.minusDays(19 + i));
+        }
+
+        assertEquals(5, eventArchiveService.archiveEndedEvents());
+        assertEquals(0, eventRepository.count());
+        assertEquals(5, archivedEventRepository.count());
+        assertEquals(0, eventArchiveService.archiveEndedEvents());
+    }
+
+    @Test
+    void archiveEndedEvents_WhenNothingEnded_ShouldKeepCachesWarm() {
+        saveEvent("Upcoming Event", LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
+        Pageable firstPage = PageRequest.of(0, 10);
+        eventService.getAllEvents(firstPage);
+        eventArchiveService.getArchivedEvents(firstPage);
+
+        assertEquals(0, eventArchiveService.archiveEndedEvents());
+
+        assertNotNull(cacheManager.getCache("events").get("0-10-UNSORTED"));
+        assertNotNull(cacheManager.getCache("archivedEvents").get("0-10-UNSORTED"));
+    }
+
+    @Test
+    void archivedEvents_ShouldOnlyBeServedAsHistory() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        Event past = saveEvent("Past Event", now.minusDays(10), now.minusDays(9));
+        eventArchiveService.archiveEndedEvents();
+
+        mockMvc.perform(get("/api/events/" + past.getId()))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/events/archive/" + past.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Past Event"));
+
+        mockMvc.perform(get("/api/events/archive/search").param("title", "Past"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+}
@@ -3,8 +3,13 @@ package com.technology309.eventmanager.integration;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.technology309.eventmanager.config.ConflictProperties;
+import com.technology309.eventmanager.dto.GeoPoint;
+import com.technology309.eventmanager.index.EventScheduleIndex;
 import com.technology309.eventmanager.model.Event;
 import com.technology309.eventmanager.repository.EventRepository;
+import com.technology309.eventmanager.service.LocationKeyBackfill;
+import com.technology309.eventmanager.service.StubGeocoder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +18,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -39,6 +45,18 @@ public class EventControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ConflictProperties conflictProperties;
+
+    @Autowired
+    private EventScheduleIndex eventScheduleIndex;
+
+    @Autowired
+    private LocationKeyBackfill locationKeyBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Event testEvent;
 
     @BeforeEach
@@ -95,6 +113,37 @@ public class EventControllerIntegrationTest {
         assertEquals(2, page.getTotalPages());
     }
 
+    @Test
+    void getAllEvents_ShouldCacheEachSortOrderSeparately() throws Exception {
+        Event other = new Event();
+        other.setTitle("Another Event");
+        other.setDescription("Another Description");
+        other.setLocation("Another Location");
+        other.setStartDate(LocalDateTime.now().plusDays(5));
+        other.setEndDate(LocalDateTime.now().plusDays(6));
+        eventRepository.save(other);
+
+        mockMvc.perform(get("/api/events").param("page", "0").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Another Event"));
+
+        mockMvc.perform(get("/api/events").param("page", "0").param("size", "10")
+                        .param("sortBy", "title").param("direction", "desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Event"));
+
+        mockMvc.perform(get("/api/events").param("page", "0").param("size", "10")
+                        .param("sortBy", "startDate").param("direction", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Event"));
+    }
+
+    @Test
+    void getEventById_WithIdAboveIndexRange_ShouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/api/events/137438953472"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void searchEventsByTitle() throws Exception {
         MvcResult result = mockMvc.perform(get("/api/events/search")
@@ -148,6 +197,156 @@ public class EventControllerIntegrationTest {
         assertTrue(page.getContent().get(0).getEndDate().isBefore(endDate));
     }
 
+    @Test
+    void upcomingAndHappeningNow() throws Exception {
+        Event ongoing = new Event();
+        ongoing.setTitle("Ongoing Event");
+        ongoing.setDescription("Ongoing Description");
+        ongoing.setLocation("Test Location");
+        ongoing.setStartDate(LocalDateTime.now().minusHours(1));
+        ongoing.setEndDate(LocalDateTime.now().plusHours(1));
+        eventRepository.save(ongoing);
+
+        mockMvc.perform(get("/api/events/now"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Ongoing Event"));
+
+        mockMvc.perform(get("/api/events/upcoming").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(testEvent.getId()));
+    }
+
+    @Test
+    void scheduleConflicts() throws Exception {
+        LocalDateTime start = testEvent.getStartDate();
+
+        mockMvc.perform(get("/api/events/conflicts")
+                        .param("location", "test location")
+                        .param("startDate", start.minusHours(1).toString())
+                        .param("endDate", start.plusHours(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(testEvent.getId()))
+                .andExpect(jsonPath("$[0].title").value("Test Event"));
+
+        mockMvc.perform(get("/api/events/conflicts")
+                        .param("location", "Test Location")
+                        .param("startDate", start.minusHours(1).toString())
+                        .param("endDate", start.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        mockMvc.perform(get("/api/events/conflicts")
+                        .param("location", "Test Location")
+                        .param("startDate", start.plusHours(1).toString())
+                        .param("endDate", start.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createEvent_WhenEnforcingConflicts_ShouldRejectOverlap() throws Exception {
+        Event overlapping = new Event();
+        overlapping.setTitle("Overlapping Event");
+        overlapping.setDescription("Overlapping Description");
+        overlapping.setLocation("Test Location");
+        overlapping.setStartDate(testEvent.getStartDate().plusHours(1));
+        overlapping.setEndDate(testEvent.getEndDate().plusHours(1));
+
+        conflictProperties.setEnforce(true);
+        try {
+            mockMvc.perform(post("/api/events")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(overlapping)))
+                    .andExpect(status().isConflict());
+        } finally {
+            conflictProperties.setEnforce(false);
+        }
+        assertEquals(1, eventRepository.count());
+    }
+
+    @Test
+    void createEvent_WhenEnforcingConflicts_ShouldRejectOverlapUnknownToTheLocalIndex() throws Exception {
+        // as if testEvent had been created on another instance
+        eventScheduleIndex.onRemoved(testEvent.getId());
+        Event overlapping = new Event();
+        overlapping.setTitle("Overlapping Event");
+        overlapping.setDescription("Overlapping Description");
+        overlapping.setLocation(" test LOCATION");
+        overlapping.setStartDate(testEvent.getStartDate().plusHours(1));
+        overlapping.setEndDate(testEvent.getEndDate().plusHours(1));
+
+        conflictProperties.setEnforce(true);
+        try {
+            mockMvc.perform(post("/api/events")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(overlapping)))
+                    .andExpect(status().isConflict());
+        } finally {
+            conflictProperties.setEnforce(false);
+        }
+        assertEquals(1, eventRepository.count());
+    }
+
+    @Test
+    void createEvent_WhenEnforcingConflicts_ShouldRejectOverlapWithARowWrittenBeforeTheLocationKey() throws Exception {
+        // as if testEvent predated the location_key column
+        jdbcTemplate.update("update events set location_key = null where id = ?", testEvent.getId());
+        assertEquals(1, locationKeyBackfill.backfill());
+
+        Event overlapping = new Event();
+        overlapping.setTitle("Overlapping Event");
+        overlapping.setDescription("Overlapping Description");
+        overlapping.setLocation("TEST LOCATION");
+        overlapping.setStartDate(testEvent.getStartDate().plusHours(1));
+        overlapping.setEndDate(testEvent.getEndDate().plusHours(1));
+
+        conflictProperties.setEnforce(true);
+        try {
+            mockMvc.perform(post("/api/events")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(overlapping)))
+                    .andExpect(status().isConflict());
+        } finally {
+            conflictProperties.setEnforce(false);
+        }
+        assertEquals(1, eventRepository.count());
+    }
+
+    @Test
+    void eventsNearby() throws Exception {
+        Event nearby = new Event();
+        nearby.setTitle("Nearby Event");
+        nearby.setDescription("Nearby Description");
+        nearby.setLocation("Times Square");
+        nearby.setStartDate(LocalDateTime.now().plusDays(1));
+        nearby.setEndDate(LocalDateTime.now().plusDays(2));
+        nearby.setLatitude(40.7580);
+        nearby.setLongitude(-73.9855);
+        eventRepository.save(nearby);
+
+        mockMvc.perform(get("/api/events/nearby")
+                        .param("latitude", "40.7128")
+                        .param("longitude", "-74.0060")
+                        .param("radiusKm", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Nearby Event"));
+
+        mockMvc.perform(get("/api/events/nearby")
+                        .param("latitude", "40.7128")
+                        .param("longitude", "-74.0060")
+                        .param("radiusKm", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        mockMvc.perform(get("/api/events/nearby")
+                        .param("latitude", "95")
+                        .param("longitude", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testCache() throws Exception {
         // First request
@@ -201,6 +400,30 @@ public class EventControllerIntegrationTest {
         assertEquals("New Location", createdEvent.getLocation());
     }
 
+    @Test
+    void createEvent_ShouldIgnoreClientCoordinates() throws Exception {
+        Event newEvent = new Event();
+        newEvent.setTitle("New Event");
+        newEvent.setDescription("New Description");
+        newEvent.setLocation("New Location");
+        newEvent.setStartDate(LocalDateTime.now().plusDays(3));
+        newEvent.setEndDate(LocalDateTime.now().plusDays(4));
+        newEvent.setLatitude(12.5);
+        newEvent.setLongitude(-45.0);
+
+        MvcResult result = mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newEvent)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        Event createdEvent = objectMapper.readValue(result.getResponse().getContentAsString(), Event.class);
+        GeoPoint expected = new StubGeocoder().geocode("New Location").orElseThrow();
+        Event stored = eventRepository.findById(createdEvent.getId()).orElseThrow();
+        assertEquals(expected.latitude(), stored.getLatitude());
+        assertEquals(expected.longitude(), stored.getLongitude());
+    }
+
     @Test
     void updateEvent() throws Exception {
         Event updatedEvent = new Event();
@@ -0,0 +1,49 @@
+package com.technology309.eventmanager.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReadinessIntegrationTest {
+
+    private static final AtomicReference<ReadinessState> STATE_DURING_STARTUP = new AtomicReference<>();
+
+    @TestConfiguration
+    static class StartupProbe {
+        /** Runs alongside the index loader and cache warmer. */
+        @Bean
+        ApplicationRunner readinessRecorder(ApplicationAvailability availability) {
+            return args -> STATE_DURING_STARTUP.set(availability.getReadinessState());
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void readiness_ShouldOnlyReportUpOnceStartupRunnersHaveFinished() throws Exception {
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, STATE_DURING_STARTUP.get());
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.technology309.eventmanager.service;
+
+import com.technology309.eventmanager.config.CacheWarmupProperties;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheWarmerTest {
+
+    @Mock
+    private EventService eventService;
+
+    @TempDir
+    Path tempDir;
+
+    private CacheWarmupProperties properties;
+    private HotKeyTracker hotKeyTracker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheWarmupProperties();
+        properties.setPages(2);
+        properties.setPageSize(10);
+        properties.setHotIds(2);
+        properties.setSnapshotFile(tempDir.resolve("hot-events.txt").toString());
+        hotKeyTracker = new HotKeyTracker(properties);
+    }
+
+    @Test
+    void snapshot_ShouldKeepMostRequestedIds() {
+        hotKeyTracker.recordAccess(1L);
+        hotKeyTracker.recordAccess(2L);
+        hotKeyTracker.recordAccess(2L);
+        hotKeyTracker.recordAccess(3L);
+        hotKeyTracker.recordAccess(3L);
+        hotKeyTracker.recordAccess(3L);
+
+        hotKeyTracker.writeSnapshot();
+
+        assertEquals(List.of(3L, 2L), new HotKeyTracker(properties).readSnapshot());
+        assertTrue(hotKeyTracker.hottestIds(10).isEmpty());
+    }
+
+    @Test
+    void idleWindow_ShouldKeepPreviousSnapshot() {
+        hotKeyTracker.recordAccess(7L);
+        hotKeyTracker.writeSnapshot();
+
+        hotKeyTracker.writeSnapshot();
+
+        assertEquals(List.of(7L), hotKeyTracker.readSnapshot());
+    }
+
+    @Test
+    void warmUp_ShouldLoadDefaultPagesAndSnapshotIds() throws Exception {
+        hotKeyTracker.recordAccess(5L);
+        hotKeyTracker.recordAccess(6L);
+        hotKeyTracker.writeSnapshot();
+        when(eventService.getEventById(6L)).thenThrow(new EntityNotFoundException("Event not found with id: 6"));
+
+        new CacheWarmer(eventService, hotKeyTracker, properties).warmUp();
+
+        Sort sort = Sort.by(Sort.Direction.DESC, "startDate");
+        verify(eventService).getAllEvents(PageRequest.of(0, 10, sort));
+        verify(eventService).getAllEvents(PageRequest.of(1, 10, sort));
+        verify(eventService).getEventById(5L);
+        verify(eventService).getEventById(6L);
+    }
+
+    @Test
+    void missingSnapshot_ShouldOnlyLoadPages() throws Exception {
+        new CacheWarmer(eventService, hotKeyTracker, properties).warmUp();
+
+        verify(eventService, times(2)).getAllEvents(any());
+        verify(eventService, never()).getEventById(anyLong());
+    }
+}
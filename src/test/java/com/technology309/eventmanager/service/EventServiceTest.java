@@ -1,13 +1,23 @@
 package com.technology309.eventmanager.service;
 
+import com.technology309.eventmanager.config.ConflictProperties;
+import com.technology309.eventmanager.dto.EventSlot;
+import com.technology309.eventmanager.dto.GeoPoint;
+import com.technology309.eventmanager.exception.EventConflictException;
+import com.technology309.eventmanager.index.EventGeoIndex;
+import com.technology309.eventmanager.index.EventIdIndex;
+import com.technology309.eventmanager.index.EventScheduleIndex;
+import com.technology309.eventmanager.index.EventTimeIndex;
 import com.technology309.eventmanager.model.Event;
 import com.technology309.eventmanager.repository.EventRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -33,6 +43,24 @@ public class EventServiceTest {
     @Mock
     private WeatherService weatherService;
 
+    @Mock
+    private EventIdIndex eventIdIndex;
+
+    @Mock
+    private EventTimeIndex eventTimeIndex;
+
+    @Mock
+    private EventGeoIndex eventGeoIndex;
+
+    @Mock
+    private EventScheduleIndex eventScheduleIndex;
+
+    @Mock
+    private Geocoder geocoder;
+
+    @Spy
+    private ConflictProperties conflictProperties = new ConflictProperties();
+
     @InjectMocks
     private EventService eventService;
 
@@ -51,6 +79,7 @@ public class EventServiceTest {
         testEvent.setWeatherData("Test Weather Data");
 
         pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "startDate"));
+        lenient().when(eventIdIndex.mightContain(anyLong())).thenReturn(true);
     }
 
     @Test
@@ -111,6 +140,103 @@ public class EventServiceTest {
         verify(eventRepository).findByStartDateBetween(startDate, endDate, pageRequest);
     }
 
+    @Test
+    void getUpcomingEvents_ShouldBeServedFromTimeIndex() {
+        when(eventTimeIndex.upcoming(any(LocalDateTime.class), eq(5))).thenReturn(List.of(testEvent));
+
+        List<Event> result = eventService.getUpcomingEvents(5);
+
+        assertEquals(List.of(testEvent), result);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getEventsNearby_ShouldKeepIndexOrder() {
+        Event nearer = new Event();
+        nearer.setId(2L);
+        when(eventGeoIndex.nearby(40.7, -74.0, 5.0, 10)).thenReturn(List.of(2L, 1L));
+        when(eventRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(testEvent, nearer));
+
+        List<Event> result = eventService.getEventsNearby(40.7, -74.0, 5.0, 10);
+
+        assertEquals(List.of(nearer, testEvent), result);
+    }
+
+    @Test
+    void getEventsNearby_WhenIndexedEventIsGone_ShouldDropItAndFillTheLimit() {
+        Event nearer = new Event();
+        nearer.setId(2L);
+        // 3 was deleted on another instance; the index still lists it until dropped
+        when(eventGeoIndex.nearby(40.7, -74.0, 5.0, 2)).thenReturn(List.of(3L, 2L), List.of(2L, 1L));
+        when(eventRepository.findAllById(List.of(3L, 2L))).thenReturn(List.of(nearer));
+        when(eventRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(testEvent, nearer));
+
+        List<Event> result = eventService.getEventsNearby(40.7, -74.0, 5.0, 2);
+
+        assertEquals(List.of(nearer, testEvent), result);
+        verify(eventGeoIndex).onRemoved(3L);
+    }
+
+    @Test
+    void getEventsNearby_WithInvalidArguments_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEventsNearby(91, 0, 5, 10));
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEventsNearby(0, -181, 5, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> eventService.getEventsNearby(0, 0, EventGeoIndex.MAX_RADIUS_KM + 1, 10));
+        verifyNoInteractions(eventGeoIndex, eventRepository);
+    }
+
+    @Test
+    void findConflicts_ShouldBeServedFromScheduleIndex() {
+        LocalDateTime start = LocalDateTime.now();
+        LocalDateTime end = start.plusHours(2);
+        EventSlot slot = new EventSlot(1L, "Test Event", "Test Location", start, end);
+        when(eventScheduleIndex.overlapping("Test Location", start, end, 2L)).thenReturn(List.of(slot));
+
+        assertEquals(List.of(slot), eventService.findConflicts("Test Location", start, end, 2L));
+        assertThrows(IllegalArgumentException.class,
+                () -> eventService.findConflicts("Test Location", end, start, null));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void createEvent_WhenEnforcingAndOverlapping_ShouldThrowConflict() {
+        conflictProperties.setEnforce(true);
+        Event other = new Event();
+        other.setId(2L);
+        other.setTitle("Other Event");
+        other.setLocation(testEvent.getLocation());
+        other.setStartDate(testEvent.getStartDate());
+        other.setEndDate(testEvent.getEndDate());
+        when(eventRepository.findOverlappingForUpdate("test location", testEvent.getStartDate(),
+                testEvent.getEndDate(), null)).thenReturn(List.of(other));
+
+        EventConflictException exception = assertThrows(EventConflictException.class,
+                () -> eventService.createEvent(testEvent));
+        assertEquals(List.of(new EventSlot(2L, "Other Event", testEvent.getLocation(),
+                testEvent.getStartDate(), testEvent.getEndDate())), exception.getConflicts());
+        // the overlap query takes row locks, so it must follow the weather call
+        InOrder inOrder = inOrder(weatherService, eventRepository);
+        inOrder.verify(weatherService).getWeatherData(testEvent.getLocation());
+        inOrder.verify(eventRepository).findOverlappingForUpdate("test location", testEvent.getStartDate(),
+                testEvent.getEndDate(), null);
+        verifyNoInteractions(eventScheduleIndex);
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    void updateEvent_WhenEnforcing_ShouldIgnoreItsOwnSlot() {
+        conflictProperties.setEnforce(true);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        eventService.updateEvent(1L, testEvent);
+
+        verify(eventRepository).findOverlappingForUpdate("test location", testEvent.getStartDate(),
+                testEvent.getEndDate(), 1L);
+        verify(eventRepository).save(testEvent);
+    }
+
     @Test
     void getEventById_ShouldReturnEvent() {
         when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
@@ -130,6 +256,17 @@ public class EventServiceTest {
         verify(eventRepository).findById(1L);
     }
 
+    @Test
+    void requireIndexed_WhenIdNotIndexed_ShouldThrowWithoutQueryingRepository() {
+        when(eventIdIndex.mightContain(42L)).thenReturn(false);
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> eventService.requireIndexed(42L));
+        assertEquals("Event not found with id: 42", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+        verifyNoInteractions(eventRepository);
+    }
+
     @Test
     void createEvent_ShouldReturnCreatedEvent() {
         when(weatherService.getWeatherData(anyString())).thenReturn("Test Weather Data");
@@ -143,6 +280,29 @@ public class EventServiceTest {
         verify(eventRepository).save(testEvent);
     }
 
+    @Test
+    void createEvent_WhenGeocodingFails_ShouldNotKeepSuppliedCoordinates() {
+        testEvent.setLatitude(12.5);
+        testEvent.setLongitude(-45.0);
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Event result = eventService.createEvent(testEvent);
+
+        assertNull(result.getLatitude());
+        assertNull(result.getLongitude());
+    }
+
+    @Test
+    void createEvent_ShouldStoreGeocodedCoordinates() {
+        when(geocoder.geocode(testEvent.getLocation())).thenReturn(Optional.of(new GeoPoint(40.7, -74.0)));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Event result = eventService.createEvent(testEvent);
+
+        assertEquals(40.7, result.getLatitude());
+        assertEquals(-74.0, result.getLongitude());
+    }
+
     @Test
     void updateEvent_WhenEventExists_ShouldReturnUpdatedEvent() {
         // Create original event
@@ -196,21 +356,29 @@ public class EventServiceTest {
 
     @Test
     void deleteEvent_WhenEventExists_ShouldDeleteEvent() {
-        when(eventRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(eventRepository).deleteById(1L);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
 
         eventService.deleteEvent(1L);
 
-        verify(eventRepository).existsById(1L);
-        verify(eventRepository).deleteById(1L);
+        verify(eventRepository).findById(1L);
+        verify(eventRepository).delete(testEvent);
+        verify(eventRepository, never()).existsById(anyLong());
     }
 
     @Test
     void deleteEvent_WhenEventNotFound_ShouldThrowException() {
-        when(eventRepository.existsById(1L)).thenReturn(false);
+        when(eventRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThrows(RuntimeException.class, () -> eventService.deleteEvent(1L));
-        verify(eventRepository).existsById(1L);
-        verify(eventRepository, never()).deleteById(anyLong());
+        verify(eventRepository).findById(1L);
+        verify(eventRepository, never()).delete(any(Event.class));
+    }
+
+    @Test
+    void deleteEvent_WhenIdNotIndexed_ShouldThrowWithoutQueryingRepository() {
+        when(eventIdIndex.mightContain(1L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> eventService.deleteEvent(1L));
+        verifyNoInteractions(eventRepository);
     }
 }
\ No newline at end of file